@@ -0,0 +1,25 @@
+package com.company.oop.dealership;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+public class BenchmarkRunner {
+
+    private static final String ALL_BENCHMARKS = "com\\.company\\.oop\\.dealership\\..*Benchmarks";
+
+    /**
+     * Runs the benchmarks matching the given regular expression, or all of them when run without arguments.
+     * Next to the throughput, the GC profiler reports the bytes allocated per operation ("gc.alloc.rate.norm").
+     * The "jmh" library needs both jmh-core and jmh-generator-annprocess, with annotation processing
+     * enabled for this module, so that the benchmark classes are generated at compile time.
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(args.length > 0 ? args[0] : ALL_BENCHMARKS)
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
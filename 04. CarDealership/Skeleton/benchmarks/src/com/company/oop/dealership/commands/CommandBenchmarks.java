@@ -0,0 +1,67 @@
+package com.company.oop.dealership.commands;
+
+import com.company.oop.dealership.commands.contracts.Command;
+import com.company.oop.dealership.core.VehicleDealershipRepositoryImpl;
+import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
+import com.company.oop.dealership.models.contracts.User;
+import com.company.oop.dealership.models.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Execution of the commands that change the repository, by a logged in VIP user
+ * (who has no vehicle limit), starting from a fresh repository every iteration.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CommandBenchmarks {
+
+    private static final String USERNAME = "pesho";
+
+    private static final List<String> ADD_VEHICLE_PARAMETERS = List.of("Car", "Opel", "Vectra", "5000", "5");
+    private static final List<String> ADD_COMMENT_PARAMETERS = List.of("Amazing speed and handling!", USERNAME, "1");
+    private static final List<String> REMOVE_COMMENT_PARAMETERS = List.of("1", "1", USERNAME);
+
+    private Command addVehicleCommand;
+    private Command addCommentCommand;
+    private Command removeCommentCommand;
+
+    @Setup(Level.Iteration)
+    public void createRepository() {
+        VehicleDealershipRepository repository = new VehicleDealershipRepositoryImpl();
+        User user = repository.createUser(USERNAME, "Petar", "Petrov", "123456", UserRole.VIP);
+        repository.addUser(user);
+        repository.login(user);
+        user.addVehicle(repository.createCar("Opel", "Vectra", 5000, 5));
+
+        addVehicleCommand = new AddVehicleCommand(repository);
+        addCommentCommand = new AddCommentCommand(repository);
+        removeCommentCommand = new RemoveCommentCommand(repository);
+    }
+
+    @Benchmark
+    public String addVehicle() {
+        return addVehicleCommand.execute(ADD_VEHICLE_PARAMETERS);
+    }
+
+    @Benchmark
+    public String addComment() {
+        return addCommentCommand.execute(ADD_COMMENT_PARAMETERS);
+    }
+
+    /**
+     * A comment can only be removed once, so every operation adds one and removes it again.
+     * Subtract {@link #addComment()} to get the cost of the removal alone.
+     */
+    @Benchmark
+    public String addAndRemoveComment() {
+        addCommentCommand.execute(ADD_COMMENT_PARAMETERS);
+        return removeCommentCommand.execute(REMOVE_COMMENT_PARAMETERS);
+    }
+}
@@ -0,0 +1,85 @@
+package com.company.oop.dealership.commands;
+
+import com.company.oop.dealership.commands.contracts.Command;
+import com.company.oop.dealership.core.VehicleDealershipRepositoryImpl;
+import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
+import com.company.oop.dealership.models.contracts.User;
+import com.company.oop.dealership.models.contracts.Vehicle;
+import com.company.oop.dealership.models.enums.UserRole;
+import com.company.oop.dealership.utils.RenderCache;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendering the vehicles of a user, both as a String and streamed into a reused buffer,
+ * with the render cache turned off and on.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ShowVehiclesBenchmarks {
+
+    private static final String USERNAME = "pesho";
+    private static final List<String> PARAMETERS = List.of(USERNAME);
+
+    @Param({"10", "1000"})
+    private int vehicleCount;
+
+    @Param({"0", "5"})
+    private int commentsPerVehicle;
+
+    @Param({"0", "33554432"})
+    private long renderCacheBytes;
+
+    private Command showVehiclesCommand;
+    private StringBuilder output;
+
+    @Setup
+    public void createRepository() {
+        RenderCache.getShared().clear();
+        RenderCache.getShared().setBudgetBytes(renderCacheBytes);
+        VehicleDealershipRepository repository = new VehicleDealershipRepositoryImpl();
+        User user = repository.createUser(USERNAME, "Petar", "Petrov", "123456", UserRole.VIP);
+        repository.addUser(user);
+        repository.login(user);
+        for (int i = 0; i < vehicleCount; i++) {
+            Vehicle vehicle;
+            switch (i % 3) {
+                case 0:
+                    vehicle = repository.createCar("Opel", "Vectra", 5000 + i, 5);
+                    break;
+                case 1:
+                    vehicle = repository.createMotorcycle("Suzuki", "GSXR", 1999.99, "Sport");
+                    break;
+                default:
+                    vehicle = repository.createTruck("Volvo", "FH16", 120000.5, 40);
+                    break;
+            }
+            user.addVehicle(vehicle);
+            for (int j = 0; j < commentsPerVehicle; j++) {
+                user.addComment(repository.createComment("Amazing speed and handling!", USERNAME), vehicle);
+            }
+        }
+
+        showVehiclesCommand = new ShowVehiclesCommand(repository);
+        output = new StringBuilder();
+    }
+
+    @Benchmark
+    public String renderToString() {
+        return showVehiclesCommand.execute(PARAMETERS);
+    }
+
+    @Benchmark
+    public StringBuilder renderToAppendable() throws IOException {
+        output.setLength(0);
+        showVehiclesCommand.execute(PARAMETERS, output);
+        return output;
+    }
+}
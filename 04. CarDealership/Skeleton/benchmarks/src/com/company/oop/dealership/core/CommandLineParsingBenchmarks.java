@@ -0,0 +1,85 @@
+package com.company.oop.dealership.core;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Splitting input lines into a command name and parameters: the engine's {@link CommandLineTokenizer}
+ * compared with the split/replaceAll parsing the engine used before it.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CommandLineParsingBenchmarks {
+
+    private static final String MAIN_SPLIT_SYMBOL = " ";
+    private static final String COMMENT_OPEN_SYMBOL = "{{";
+    private static final String COMMENT_CLOSE_SYMBOL = "}}";
+
+    @Param({
+            "AddComment {{Amazing speed and handling!}} pesho 1",
+            "AddVehicle Car Opel Vectra 5000 5",
+            "ShowVehicles pesho"
+    })
+    private String inputLine;
+
+    private CommandLineTokenizer tokenizer;
+
+    @Setup
+    public void createTokenizer() {
+        tokenizer = new CommandLineTokenizer();
+    }
+
+    @Benchmark
+    public void tokenizer(Blackhole blackhole) {
+        tokenizer.tokenize(inputLine);
+        blackhole.consume(tokenizer.getCommandName());
+        blackhole.consume(tokenizer.getParameters());
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        blackhole.consume(extractCommandName(inputLine));
+        blackhole.consume(extractCommandParameters(inputLine));
+    }
+
+    private static String extractCommandName(String inputLine) {
+        return inputLine.split(" ")[0];
+    }
+
+    private static List<String> extractCommandParameters(String inputLine) {
+        if (inputLine.contains(COMMENT_OPEN_SYMBOL)) {
+            return extractCommentParameters(inputLine);
+        }
+        String[] commandParts = inputLine.split(" ");
+        List<String> parameters = new ArrayList<>();
+        for (int i = 1; i < commandParts.length; i++) {
+            parameters.add(commandParts[i]);
+        }
+        return parameters;
+    }
+
+    private static List<String> extractCommentParameters(String fullCommand) {
+        int indexOfFirstSeparator = fullCommand.indexOf(MAIN_SPLIT_SYMBOL);
+        int indexOfOpenComment = fullCommand.indexOf(COMMENT_OPEN_SYMBOL);
+        int indexOfCloseComment = fullCommand.indexOf(COMMENT_CLOSE_SYMBOL);
+        List<String> parameters = new ArrayList<>();
+        if (indexOfOpenComment >= 0) {
+            parameters.add(fullCommand.substring(indexOfOpenComment + COMMENT_OPEN_SYMBOL.length(), indexOfCloseComment));
+            fullCommand = fullCommand.replaceAll("\\{\\{.+(?=}})}}", "");
+        }
+
+        List<String> result = new ArrayList<>(Arrays.asList(fullCommand.substring(indexOfFirstSeparator + 1).split(MAIN_SPLIT_SYMBOL)));
+        result.removeAll(Arrays.asList(" ", "", null));
+        parameters.addAll(result);
+        return parameters;
+    }
+}
@@ -0,0 +1,85 @@
+package com.company.oop.dealership.core;
+
+import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
+import com.company.oop.dealership.models.contracts.User;
+import com.company.oop.dealership.models.contracts.Vehicle;
+import com.company.oop.dealership.models.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Mixed workload on one shared {@link ConcurrentVehicleDealershipRepositoryImpl}: every thread looks users up,
+ * adds and removes its own vehicles and comments on a vehicle shared by all threads.
+ * Compare the single-threaded score with the one on all cores to see how the repository scales.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentRepositoryBenchmarks {
+
+    private static final int USER_COUNT = 10_000;
+    private static final String USERNAME_PREFIX = "user";
+
+    @State(Scope.Benchmark)
+    public static class SharedRepository {
+
+        private VehicleDealershipRepository repository;
+        private Vehicle sharedVehicle;
+        private AtomicInteger threadCount;
+
+        @Setup(Level.Iteration)
+        public void fillRepository() {
+            repository = new ConcurrentVehicleDealershipRepositoryImpl();
+            for (int i = 0; i < USER_COUNT; i++) {
+                repository.addUser(repository.createUser(USERNAME_PREFIX + i, "First", "Last", "password", UserRole.VIP));
+            }
+            sharedVehicle = repository.createCar("Opel", "Vectra", 5000, 5);
+            repository.findUserByUsername(USERNAME_PREFIX + 0).addVehicle(sharedVehicle);
+            threadCount = new AtomicInteger();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadUser {
+
+        private User user;
+        private int nextLookup;
+
+        @Setup(Level.Iteration)
+        public void pickUser(SharedRepository shared) {
+            int thread = shared.threadCount.getAndIncrement();
+            user = shared.repository.createUser("thread" + thread, "First", "Last", "password", UserRole.VIP);
+            shared.repository.addUser(user);
+            nextLookup = thread * 7919;
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object mixedWorkload_SingleThread(SharedRepository shared, ThreadUser thread) {
+        return mixedWorkload(shared, thread);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Object mixedWorkload_AllCores(SharedRepository shared, ThreadUser thread) {
+        return mixedWorkload(shared, thread);
+    }
+
+    private static Object mixedWorkload(SharedRepository shared, ThreadUser thread) {
+        VehicleDealershipRepository repository = shared.repository;
+        User user = thread.user;
+        thread.nextLookup = (thread.nextLookup + 1) % USER_COUNT;
+        User found = repository.findUserByUsername(USERNAME_PREFIX + thread.nextLookup);
+
+        Vehicle vehicle = repository.createTruck("Volvo", "FH16", 120000, 40);
+        user.addVehicle(vehicle);
+        user.addComment(repository.createComment("Nice one", user.getUsername()), shared.sharedVehicle);
+        user.removeVehicle(vehicle);
+        return found;
+    }
+}
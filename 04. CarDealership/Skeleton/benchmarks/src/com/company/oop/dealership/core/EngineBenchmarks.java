@@ -0,0 +1,53 @@
+package com.company.oop.dealership.core;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.StringReader;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Whole scripts of {@code lineCount} lines run by the {@link BatchVehicleDealershipEngineImpl}, which reads,
+ * tokenizes and executes on one thread, and by the {@link PipelinedVehicleDealershipEngineImpl}, which reads and
+ * tokenizes on a second core while the first one executes. The script is mostly long comments, so a good part
+ * of the work happens before a command reaches the repository. The output is discarded.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EngineBenchmarks {
+
+    private static final String COMMENT = "Amazing speed and handling, barely used, always kept in a garage and serviced "
+            + "every year. Selling only because the family got bigger and needs a bigger car now.";
+
+    @Param({"10000", "100000"})
+    private int lineCount;
+
+    private String script;
+
+    @Setup(Level.Trial)
+    public void createScript() {
+        StringBuilder builder = new StringBuilder()
+                .append("RegisterUser pesho Petar Petrov 123456 VIP").append(System.lineSeparator())
+                .append("AddVehicle Car Opel Vectra 5000 5").append(System.lineSeparator());
+        for (int i = 0; i < lineCount; i++) {
+            // Every comment is removed again, so the vehicle does not grow from one line to the next.
+            builder.append(i % 2 == 0 ? "AddComment {{" + COMMENT + "}} pesho 1" : "RemoveComment 1 1 pesho")
+                    .append(System.lineSeparator());
+        }
+        script = builder.toString();
+    }
+
+    @Benchmark
+    public void batch() {
+        new BatchVehicleDealershipEngineImpl(new StringReader(script), Writer.nullWriter()).start();
+    }
+
+    @Benchmark
+    public void pipelined() {
+        new PipelinedVehicleDealershipEngineImpl(new StringReader(script), Writer.nullWriter()).start();
+    }
+}
@@ -0,0 +1,62 @@
+package com.company.oop.dealership.core;
+
+import com.company.oop.dealership.commands.enums.CommandType;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Durable appends to a {@link CommandJournalImpl}: every call waits until its record is forced to the disk.
+ * With one thread every record pays for a whole fsync, with many threads the records waiting at the same time
+ * share one. {@code appendOnly} shows the cost of a record for callers that do not wait.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JournalBenchmarks {
+
+    private static final List<String> PARAMETERS = List.of("Car", "Opel", "Vectra", "5000", "5");
+
+    @Param({"0", "1", "5"})
+    private long maxDelayMillis;
+
+    private Path journalFile;
+    private CommandJournalImpl journal;
+
+    @Setup(Level.Trial)
+    public void openJournal() throws IOException {
+        journalFile = Files.createTempFile("dealership", ".journal");
+        journal = new CommandJournalImpl(journalFile, new VehicleDealershipRepositoryImpl(), maxDelayMillis);
+    }
+
+    @TearDown(Level.Trial)
+    public void closeJournal() throws IOException {
+        journal.close();
+        Files.deleteIfExists(journalFile);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void durableAppend_SingleThread() {
+        journal.awaitDurable(journal.append(CommandType.ADDVEHICLE, "pesho", PARAMETERS));
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void durableAppend_AllThreads() {
+        journal.awaitDurable(journal.append(CommandType.ADDVEHICLE, "pesho", PARAMETERS));
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long appendOnly() {
+        return journal.append(CommandType.ADDVEHICLE, "pesho", PARAMETERS);
+    }
+}
@@ -0,0 +1,68 @@
+package com.company.oop.dealership.core;
+
+import com.company.oop.dealership.models.CarImpl;
+import com.company.oop.dealership.models.UserImpl;
+import com.company.oop.dealership.models.contracts.User;
+import com.company.oop.dealership.models.contracts.Vehicle;
+import com.company.oop.dealership.models.enums.UserRole;
+import com.company.oop.dealership.models.enums.VehicleGrouping;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Average price per make over {@code vehicleCount} vehicles, a hundred per user: read from the
+ * {@link VehiclePriceIndex}, and by walking every user's vehicles as objects.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public class PriceStatisticsBenchmarks {
+
+    private static final int VEHICLES_PER_USER = 100;
+    private static final String[] MAKES = {"Opel", "Audi", "Volvo", "Honda", "Skoda", "Fiat", "Mazda", "Seat"};
+
+    @Param({"100000", "1000000"})
+    private int vehicleCount;
+
+    private VehicleDealershipRepositoryImpl repository;
+
+    @Setup(Level.Trial)
+    public void fillRepository() {
+        repository = new VehicleDealershipRepositoryImpl();
+        Random random = new Random(42);
+        for (int i = 0; i < vehicleCount / VEHICLES_PER_USER; i++) {
+            User user = new UserImpl("user" + i, "First", "Last", "password", UserRole.VIP);
+            for (int j = 0; j < VEHICLES_PER_USER; j++) {
+                user.addVehicle(new CarImpl(MAKES[random.nextInt(MAKES.length)], "Model", random.nextInt(100_000), 5));
+            }
+            repository.addUser(user);
+        }
+    }
+
+    @Benchmark
+    public List<PriceSummary> priceIndex() {
+        return repository.summarizePrices(VehicleGrouping.MAKE);
+    }
+
+    @Benchmark
+    public Map<String, double[]> objects() {
+        Map<String, double[]> countsAndSums = new HashMap<>();
+        for (User user : repository.getUsers()) {
+            for (int i = 0; i < user.getVehicleCount(); i++) {
+                Vehicle vehicle = user.getVehicle(i);
+                double[] countAndSum = countsAndSums.computeIfAbsent(vehicle.getMake(), make -> new double[2]);
+                countAndSum[0]++;
+                countAndSum[1] += vehicle.getPrice();
+            }
+        }
+        return countsAndSums;
+    }
+}
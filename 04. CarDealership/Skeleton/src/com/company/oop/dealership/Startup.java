@@ -1,12 +1,96 @@
 package com.company.oop.dealership;
 
+import com.company.oop.dealership.core.BatchVehicleDealershipEngineImpl;
+import com.company.oop.dealership.core.CommandJournalImpl;
+import com.company.oop.dealership.core.ConcurrentVehicleDealershipRepositoryImpl;
+import com.company.oop.dealership.core.PipelinedVehicleDealershipEngineImpl;
+import com.company.oop.dealership.core.ReplayVehicleDealershipEngineImpl;
+import com.company.oop.dealership.core.RepositorySnapshot;
+import com.company.oop.dealership.core.ServerVehicleDealershipEngineImpl;
 import com.company.oop.dealership.core.VehicleDealershipEngineImpl;
+import com.company.oop.dealership.core.VehicleDealershipRepositoryImpl;
+import com.company.oop.dealership.core.contracts.VehicleDealershipEngine;
+import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 
 public class Startup {
 
-    public static void main(String[] args) {
-        VehicleDealershipEngineImpl engine = new VehicleDealershipEngineImpl();
-        engine.start();
+    private static final String SNAPSHOT_OPTION = "--snapshot";
+    private static final String JOURNAL_OPTION = "--journal";
+    private static final String BATCH_MODE_OPTION = "--batch";
+    private static final String PIPELINED_MODE_OPTION = "--pipelined";
+    private static final String SERVER_MODE_OPTION = "--server";
+    private static final String REPLAY_MODE_OPTION = "--replay";
+    private static final String UNKNOWN_OPTION = "Unknown option %s.";
+
+    /**
+     * Starts the interactive engine, or a script engine when run with
+     * "--batch [scriptFile]" or "--pipelined [scriptFile]".
+     * Without a script file the script engines read the standard input.
+     * "--server [port]" starts a server for many terminals connecting over local sockets,
+     * backed by the repository that can be used from many threads at once.
+     * "--replay scriptFile" memory-maps an archived script and reports progress to the standard error.
+     * Any of these can be preceded by "--snapshot snapshotFile" to start with the users saved by SaveSnapshot,
+     * and then by "--journal journalFile" to replay the changes recorded in the journal after the snapshot
+     * was saved and record the new ones.
+     */
+    public static void main(String[] args) throws IOException {
+        VehicleDealershipRepository repository = Arrays.asList(args).contains(SERVER_MODE_OPTION)
+                ? new ConcurrentVehicleDealershipRepositoryImpl()
+                : new VehicleDealershipRepositoryImpl();
+        long snapshotSequence = 0;
+        if (args.length > 1 && args[0].equals(SNAPSHOT_OPTION)) {
+            RepositorySnapshot snapshot = new RepositorySnapshot();
+            snapshot.load(Path.of(args[1]), repository);
+            snapshotSequence = snapshot.getJournalSequence();
+            args = Arrays.copyOfRange(args, 2, args.length);
+        }
+        if (args.length > 1 && args[0].equals(JOURNAL_OPTION)) {
+            repository.setCommandJournal(new CommandJournalImpl(Path.of(args[1]), repository,
+                    CommandJournalImpl.DEFAULT_MAX_DELAY_MILLIS, snapshotSequence));
+            args = Arrays.copyOfRange(args, 2, args.length);
+        }
+
+        VehicleDealershipEngine engine;
+        Reader script = null;
+        if (args.length == 0) {
+            engine = new VehicleDealershipEngineImpl(repository);
+        } else if (args[0].equals(SERVER_MODE_OPTION)) {
+            engine = new ServerVehicleDealershipEngineImpl(args.length > 1
+                    ? Integer.parseInt(args[1])
+                    : ServerVehicleDealershipEngineImpl.DEFAULT_PORT,
+                    repository);
+        } else if (args[0].equals(REPLAY_MODE_OPTION) && args.length > 1) {
+            engine = new ReplayVehicleDealershipEngineImpl(Path.of(args[1]), new OutputStreamWriter(System.out), System.err,
+                    ReplayVehicleDealershipEngineImpl.DEFAULT_WINDOW_SIZE, repository);
+        } else if (args[0].equals(BATCH_MODE_OPTION) || args[0].equals(PIPELINED_MODE_OPTION)) {
+            script = args.length > 1 ? Files.newBufferedReader(Path.of(args[1])) : new InputStreamReader(System.in);
+            OutputStreamWriter output = new OutputStreamWriter(System.out);
+            if (args[0].equals(BATCH_MODE_OPTION)) {
+                engine = new BatchVehicleDealershipEngineImpl(script, output,
+                        BatchVehicleDealershipEngineImpl.OUTPUT_BUFFER_SIZE, repository);
+            } else {
+                engine = new PipelinedVehicleDealershipEngineImpl(script, output,
+                        PipelinedVehicleDealershipEngineImpl.DEFAULT_QUEUE_CAPACITY, repository);
+            }
+        } else {
+            throw new IllegalArgumentException(String.format(UNKNOWN_OPTION, args[0]));
+        }
+        try {
+            engine.start();
+        } finally {
+            repository.getCommandJournal().close();
+            if (script != null) {
+                script.close();
+            }
+        }
     }
 
 }
@@ -1,13 +1,17 @@
 package com.company.oop.dealership.commands;
 
+import com.company.oop.dealership.commands.enums.CommandType;
 import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
 import com.company.oop.dealership.models.contracts.Comment;
 import com.company.oop.dealership.models.contracts.User;
 import com.company.oop.dealership.models.contracts.Vehicle;
-import com.company.oop.dealership.utils.ParsingHelpers;
 import com.company.oop.dealership.utils.ValidationHelpers;
 
 import java.util.List;
+/**
+ * Comments a vehicle of a user, given by its position, e.g. "AddComment {{Nice one}} pesho 2",
+ * or by its id, e.g. "AddComment {{Nice one}} pesho #17".
+ */
 public class AddCommentCommand extends BaseCommand {
 
     public static final int EXPECTED_NUMBER_OF_ARGUMENTS = 3;
@@ -16,7 +20,7 @@ public class AddCommentCommand extends BaseCommand {
     public final static String VEHICLE_DOES_NOT_EXIST = "The vehicle does not exist!";
 
     public AddCommentCommand(VehicleDealershipRepository vehicleDealershipRepository) {
-        super(vehicleDealershipRepository);
+        super(CommandType.ADDCOMMENT, vehicleDealershipRepository);
     }
 
     @Override
@@ -24,16 +28,14 @@ public class AddCommentCommand extends BaseCommand {
         ValidationHelpers.validateArgumentsCount(parameters, EXPECTED_NUMBER_OF_ARGUMENTS);
         String content = parameters.get(0);
         String author = parameters.get(1);
-        int vehicleIndex = ParsingHelpers.tryParseInt(parameters.get(2), INVALID_INPUT_MESSAGE) - 1;
-        return addComment(content, vehicleIndex, author);
+        VehicleReference vehicleReference = VehicleReference.parse(parameters.get(2), INVALID_INPUT_MESSAGE);
+        return addComment(content, vehicleReference, author);
     }
 
-    private String addComment(String content, int vehicleIndex, String author) {
+    private String addComment(String content, VehicleReference vehicleReference, String author) {
         User user = getVehicleDealershipRepository().findUserByUsername(author);
 
-        ValidationHelpers.validateIntRange(vehicleIndex, 0, user.getVehicles().size() - 1, VEHICLE_DOES_NOT_EXIST);
-
-        Vehicle vehicle = user.getVehicles().get(vehicleIndex);
+        Vehicle vehicle = vehicleReference.find(getVehicleDealershipRepository(), user, VEHICLE_DOES_NOT_EXIST);
 
         Comment comment = getVehicleDealershipRepository().createComment(content, getVehicleDealershipRepository().getLoggedInUser().getUsername());
 
@@ -46,4 +48,9 @@ public class AddCommentCommand extends BaseCommand {
     protected boolean requiresLogin() {
         return true;
     }
+
+    @Override
+    public boolean changesRepository() {
+        return true;
+    }
 }
@@ -1,6 +1,8 @@
 package com.company.oop.dealership.commands;
 
+import com.company.oop.dealership.commands.enums.CommandType;
 import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
+import com.company.oop.dealership.exceptions.InvalidUserInputException;
 import com.company.oop.dealership.models.contracts.Vehicle;
 import com.company.oop.dealership.models.enums.VehicleType;
 import com.company.oop.dealership.utils.ParsingHelpers;
@@ -18,7 +20,7 @@ public class AddVehicleCommand extends BaseCommand {
     public final static String VEHICLE_ADDED_SUCCESSFULLY = "%s added vehicle successfully!";
 
     public AddVehicleCommand(VehicleDealershipRepository vehicleDealershipRepository) {
-        super(vehicleDealershipRepository);
+        super(CommandType.ADDVEHICLE, vehicleDealershipRepository);
     }
 
     @Override
@@ -50,7 +52,7 @@ public class AddVehicleCommand extends BaseCommand {
             case TRUCK:
                 return getVehicleDealershipRepository().createTruck(make, model, price, ParsingHelpers.tryParseInt(additionalParam, INVALID_WEIGHT_MESSAGE));
             default:
-                throw new IllegalArgumentException(CANNOT_CREATE_THIS_TYPE_OF_VEHICLE);
+                throw new InvalidUserInputException(CANNOT_CREATE_THIS_TYPE_OF_VEHICLE);
         }
     }
 
@@ -58,4 +60,9 @@ public class AddVehicleCommand extends BaseCommand {
     protected boolean requiresLogin() {
         return true;
     }
+
+    @Override
+    public boolean changesRepository() {
+        return true;
+    }
 }
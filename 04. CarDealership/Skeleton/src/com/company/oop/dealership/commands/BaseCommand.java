@@ -1,17 +1,24 @@
 package com.company.oop.dealership.commands;
 
 import com.company.oop.dealership.commands.contracts.Command;
+import com.company.oop.dealership.commands.enums.CommandType;
 import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
+import com.company.oop.dealership.exceptions.InvalidUserInputException;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 public abstract class BaseCommand implements Command {
 
     private final static String USER_NOT_LOGGED = "You are not logged in! Please login first!";
+    private final static String CHANGE_NOT_JOURNALED = "The change was made, but it could not be journaled and will be lost on restart!";
 
+    private final CommandType commandType;
     private final VehicleDealershipRepository vehicleDealershipRepository;
 
-    protected BaseCommand(VehicleDealershipRepository vehicleDealershipRepository) {
+    protected BaseCommand(CommandType commandType, VehicleDealershipRepository vehicleDealershipRepository) {
+        this.commandType = commandType;
         this.vehicleDealershipRepository = vehicleDealershipRepository;
     }
 
@@ -19,15 +26,90 @@ public abstract class BaseCommand implements Command {
         return vehicleDealershipRepository;
     }
 
+    /**
+     * Every execution is timed and counted as a success or a failure of its command type,
+     * see {@link StatsCommand}. Successful commands that change the repository are appended
+     * to its journal together with the user who executed them. The change is made before it is appended,
+     * since only then it is known to succeed, so when the journal fails the change stays made and the command
+     * fails with a message saying it was not journaled.
+     */
     @Override
     public String execute(List<String> parameters) {
-        if (requiresLogin() && !vehicleDealershipRepository.hasLoggedInUser()) {
-            throw new IllegalArgumentException(USER_NOT_LOGGED);
+        long startNanos = System.nanoTime();
+        boolean succeeded = false;
+        try {
+            throwIfLoginRequired();
+            String actor = getActor();
+            String result = executeCommand(parameters);
+            journal(actor, getJournaledParameters(parameters));
+            succeeded = true;
+            return result;
+        } finally {
+            recordExecution(startNanos, succeeded);
+        }
+    }
+
+    @Override
+    public void execute(List<String> parameters, Appendable output) throws IOException {
+        long startNanos = System.nanoTime();
+        boolean succeeded = false;
+        try {
+            throwIfLoginRequired();
+            String actor = getActor();
+            executeCommand(parameters, output);
+            journal(actor, getJournaledParameters(parameters));
+            succeeded = true;
+        } finally {
+            recordExecution(startNanos, succeeded);
         }
-        return executeCommand(parameters);
     }
 
     protected abstract boolean requiresLogin();
 
+    @Override
+    public boolean changesRepository() {
+        return false;
+    }
+
     protected abstract String executeCommand(List<String> parameters);
+
+    protected void executeCommand(List<String> parameters, Appendable output) throws IOException {
+        output.append(executeCommand(parameters));
+    }
+
+    /**
+     * Returns the parameters a successful change is journaled with, by default the ones it was executed with.
+     * Called on the executing thread right after the command succeeded.
+     */
+    protected List<String> getJournaledParameters(List<String> parameters) {
+        return parameters;
+    }
+
+    private void throwIfLoginRequired() {
+        if (requiresLogin() && !vehicleDealershipRepository.hasLoggedInUser()) {
+            throw new InvalidUserInputException(USER_NOT_LOGGED);
+        }
+    }
+
+    private String getActor() {
+        return vehicleDealershipRepository.hasLoggedInUser()
+                ? vehicleDealershipRepository.getLoggedInUser().getUsername()
+                : null;
+    }
+
+    private void journal(String actor, List<String> parameters) {
+        if (!changesRepository()) {
+            return;
+        }
+        try {
+            vehicleDealershipRepository.getCommandJournal().append(commandType, actor, parameters);
+        } catch (IllegalStateException | UncheckedIOException e) {
+            throw new IllegalStateException(CHANGE_NOT_JOURNALED, e);
+        }
+    }
+
+    private void recordExecution(long startNanos, boolean succeeded) {
+        vehicleDealershipRepository.getCommandStatistics()
+                .record(commandType, System.nanoTime() - startNanos, succeeded);
+    }
 }
@@ -0,0 +1,83 @@
+package com.company.oop.dealership.commands;
+
+import com.company.oop.dealership.commands.enums.CommandType;
+import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
+import com.company.oop.dealership.models.contracts.User;
+import com.company.oop.dealership.models.contracts.Vehicle;
+import com.company.oop.dealership.models.enums.VehicleType;
+import com.company.oop.dealership.utils.FormattingHelpers;
+import com.company.oop.dealership.utils.ParsingHelpers;
+import com.company.oop.dealership.utils.ValidationHelpers;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Searches the vehicles of all users by type, make and model, e.g. "FindVehicles Car Opel",
+ * "FindVehicles * Opel Vectra" or "FindVehicles Truck". A "*" or a left out criterion matches any vehicle.
+ */
+public class FindVehiclesCommand extends BaseCommand {
+
+    public static final int EXPECTED_NUMBER_OF_ARGUMENTS = 1;
+
+    private static final String ANY = "*";
+    private static final String VEHICLES_HEADER = "--VEHICLES--";
+    private static final String NO_VEHICLES_HEADER = "--NO VEHICLES--";
+    private static final String OWNER_LABEL = "Owner: ";
+
+    public FindVehiclesCommand(VehicleDealershipRepository vehicleDealershipRepository) {
+        super(CommandType.FINDVEHICLES, vehicleDealershipRepository);
+    }
+
+    @Override
+    protected String executeCommand(List<String> parameters) {
+        return FormattingHelpers.renderToString(output -> executeCommand(parameters, output));
+    }
+
+    @Override
+    protected void executeCommand(List<String> parameters, Appendable output) throws IOException {
+        ValidationHelpers.validateArgumentsCount(parameters, EXPECTED_NUMBER_OF_ARGUMENTS);
+        String type = parameters.get(0);
+        String make = getCriterion(parameters, 1);
+        String model = getCriterion(parameters, 2);
+
+        Map<Vehicle, User> vehicles = getVehicleDealershipRepository().findVehicles(
+                type.equals(ANY) ? null : ParsingHelpers.tryParseEnum(type, VehicleType.class),
+                make,
+                model);
+
+        renderVehicles(vehicles.entrySet().iterator(), output);
+    }
+
+    /**
+     * Renders the vehicles with their owners, as they are read from the iterator.
+     */
+    static void renderVehicles(Iterator<Map.Entry<Vehicle, User>> vehicles, Appendable output) throws IOException {
+        output.append(VEHICLES_HEADER);
+        if (!vehicles.hasNext()) {
+            output.append(System.lineSeparator()).append(NO_VEHICLES_HEADER);
+            return;
+        }
+        int counter = 1;
+        while (vehicles.hasNext()) {
+            Map.Entry<Vehicle, User> entry = vehicles.next();
+            output.append(System.lineSeparator()).append(String.valueOf(counter++)).append(". ")
+                    .append(OWNER_LABEL).append(entry.getValue().getUsername()).append(System.lineSeparator());
+            entry.getKey().render(output);
+        }
+    }
+
+    @Override
+    protected boolean requiresLogin() {
+        return true;
+    }
+
+    private static String getCriterion(List<String> parameters, int index) {
+        if (parameters.size() <= index || parameters.get(index).equals(ANY)) {
+            return null;
+        }
+        return parameters.get(index);
+    }
+}
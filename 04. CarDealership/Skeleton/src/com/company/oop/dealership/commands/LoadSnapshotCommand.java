@@ -0,0 +1,91 @@
+package com.company.oop.dealership.commands;
+
+import com.company.oop.dealership.commands.enums.CommandType;
+import com.company.oop.dealership.core.RepositorySnapshot;
+import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
+import com.company.oop.dealership.exceptions.InvalidUserInputException;
+import com.company.oop.dealership.exceptions.SnapshotChangedException;
+import com.company.oop.dealership.utils.ValidationHelpers;
+
+import java.io.IOException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Adds the users, vehicles and comments from a snapshot file, e.g. "LoadSnapshot dealership.snapshot".
+ * Users that are already registered are left as they are.
+ * <p>
+ * The load is journaled together with the checksum of the file, e.g. "LoadSnapshot dealership.snapshot 5f3c2a1b",
+ * and a load given a checksum fails with a {@link SnapshotChangedException} when the file no longer matches it.
+ * So replaying the journal after the file was saved over is refused instead of loading different users.
+ */
+public class LoadSnapshotCommand extends BaseCommand {
+
+    public static final int EXPECTED_NUMBER_OF_ARGUMENTS = 1;
+    public static final int EXPECTED_NUMBER_OF_ARGUMENTS_WITH_CHECKSUM = 2;
+    private static final int CHECKSUM_RADIX = 16;
+
+    private static final String NOT_AN_ADMIN = "You are not an admin!";
+    private static final String SNAPSHOT_LOADED = "Loaded %d users and %d vehicles from %s.";
+    private static final String SNAPSHOT_NOT_LOADED = "Cannot load snapshot from %s.";
+    private static final String INVALID_CHECKSUM = "Invalid snapshot checksum %s.";
+
+    // Set by the last successful load, so the journaled load can check the file is still the same.
+    private long loadedChecksum;
+
+    public LoadSnapshotCommand(VehicleDealershipRepository vehicleDealershipRepository) {
+        super(CommandType.LOADSNAPSHOT, vehicleDealershipRepository);
+    }
+
+    @Override
+    protected String executeCommand(List<String> parameters) {
+        if (parameters.size() != EXPECTED_NUMBER_OF_ARGUMENTS_WITH_CHECKSUM) {
+            ValidationHelpers.validateArgumentsCount(parameters, EXPECTED_NUMBER_OF_ARGUMENTS);
+        }
+        if (!getVehicleDealershipRepository().getLoggedInUser().isAdmin()) {
+            throw new InvalidUserInputException(NOT_AN_ADMIN);
+        }
+        String fileName = parameters.get(0);
+        long expectedChecksum = parameters.size() == EXPECTED_NUMBER_OF_ARGUMENTS_WITH_CHECKSUM
+                ? parseChecksum(parameters.get(1))
+                : RepositorySnapshot.NO_CHECKSUM;
+
+        RepositorySnapshot snapshot = new RepositorySnapshot();
+        try {
+            snapshot.load(Path.of(fileName), getVehicleDealershipRepository(), expectedChecksum);
+        } catch (IOException | InvalidPathException e) {
+            throw new InvalidUserInputException(String.format(SNAPSHOT_NOT_LOADED, fileName));
+        }
+        loadedChecksum = snapshot.getChecksum();
+
+        return String.format(SNAPSHOT_LOADED, snapshot.getUserCount(), snapshot.getVehicleCount(), fileName);
+    }
+
+    @Override
+    protected List<String> getJournaledParameters(List<String> parameters) {
+        return List.of(parameters.get(0), Long.toHexString(loadedChecksum));
+    }
+
+    @Override
+    protected boolean requiresLogin() {
+        return true;
+    }
+
+    @Override
+    public boolean changesRepository() {
+        return true;
+    }
+
+    private static long parseChecksum(String value) {
+        try {
+            long checksum = Long.parseLong(value, CHECKSUM_RADIX);
+            if (checksum >= 0) {
+                return checksum;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below like a negative checksum.
+        }
+        throw new InvalidUserInputException(String.format(INVALID_CHECKSUM, value));
+    }
+}
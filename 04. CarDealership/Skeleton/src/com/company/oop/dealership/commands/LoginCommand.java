@@ -1,6 +1,8 @@
 package com.company.oop.dealership.commands;
 
+import com.company.oop.dealership.commands.enums.CommandType;
 import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
+import com.company.oop.dealership.exceptions.InvalidUserInputException;
 import com.company.oop.dealership.models.contracts.User;
 import com.company.oop.dealership.utils.ValidationHelpers;
 
@@ -15,7 +17,7 @@ public class LoginCommand extends BaseCommand {
     public static final int EXPECTED_NUMBER_OF_ARGUMENTS = 2;
 
     public LoginCommand(VehicleDealershipRepository vehicleDealershipRepository) {
-        super(vehicleDealershipRepository);
+        super(CommandType.LOGIN, vehicleDealershipRepository);
     }
 
     @Override
@@ -32,7 +34,7 @@ public class LoginCommand extends BaseCommand {
         User userFound = getVehicleDealershipRepository().findUserByUsername(username);
 
         if (!userFound.getPassword().equals(password)) {
-            throw new IllegalArgumentException(WRONG_USERNAME_OR_PASSWORD);
+            throw new InvalidUserInputException(WRONG_USERNAME_OR_PASSWORD);
         }
 
         getVehicleDealershipRepository().login(userFound);
@@ -46,7 +48,7 @@ public class LoginCommand extends BaseCommand {
 
     private void throwIfUserLoggedIn() {
         if (getVehicleDealershipRepository().hasLoggedInUser()) {
-            throw new IllegalArgumentException(
+            throw new InvalidUserInputException(
                     String.format(USER_LOGGED_IN_ALREADY, getVehicleDealershipRepository().getLoggedInUser().getUsername())
             );
         }
@@ -1,5 +1,6 @@
 package com.company.oop.dealership.commands;
 
+import com.company.oop.dealership.commands.enums.CommandType;
 import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
 
 import java.util.List;
@@ -10,7 +11,7 @@ public class LogoutCommand extends BaseCommand {
     public final static String USER_LOGGED_OUT = "You logged out!";
 
     public LogoutCommand(VehicleDealershipRepository vehicleDealershipRepository) {
-        super(vehicleDealershipRepository);
+        super(CommandType.LOGOUT, vehicleDealershipRepository);
     }
 
     @Override
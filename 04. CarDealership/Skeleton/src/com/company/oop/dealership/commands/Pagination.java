@@ -0,0 +1,100 @@
+package com.company.oop.dealership.commands;
+
+import com.company.oop.dealership.exceptions.InvalidUserInputException;
+import com.company.oop.dealership.models.contracts.Vehicle;
+import com.company.oop.dealership.utils.ParsingHelpers;
+import com.company.oop.dealership.utils.ValidationHelpers;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Optional "[pageSize] [cursor]" parameters of the listing commands. A cursor is the position of the first
+ * item on the page, or for vehicles its id, e.g. "#17", as printed at the end of the previous page.
+ * Without a page size the whole list is shown.
+ */
+class Pagination {
+
+    private static final String INVALID_PAGE_SIZE = "Invalid page size. Expected a positive number.";
+    private static final String INVALID_CURSOR = "Invalid cursor. Expected a number from 0 to %d.";
+    private static final String INVALID_VEHICLE_CURSOR = "Invalid cursor. Expected # followed by a vehicle id.";
+    private static final String NEXT_CURSOR = "--NEXT CURSOR: %s--";
+
+    private final int pageSize;
+    private final long cursor;
+
+    private Pagination(int pageSize, long cursor) {
+        this.pageSize = pageSize;
+        this.cursor = cursor;
+    }
+
+    /**
+     * Reads the page size and the cursor from the parameters at the given index on.
+     */
+    static Pagination parse(List<String> parameters, int index, int itemCount) {
+        int pageSize = parsePageSize(parameters, index);
+        int cursor = 0;
+        if (parameters.size() > index + 1) {
+            String invalidCursor = String.format(INVALID_CURSOR, itemCount);
+            cursor = ParsingHelpers.tryParseInt(parameters.get(index + 1), invalidCursor);
+            if (cursor < 0 || cursor > itemCount) {
+                throw new InvalidUserInputException(invalidCursor);
+            }
+        }
+        return new Pagination(pageSize, cursor);
+    }
+
+    /**
+     * Reads the page size and the id cursor of a vehicle list from the parameters at the given index on.
+     * The page starts with the first vehicle whose id is not less than the cursor.
+     */
+    static Pagination parseVehicles(List<String> parameters, int index) {
+        int pageSize = parsePageSize(parameters, index);
+        long firstId = Vehicle.NO_ID;
+        if (parameters.size() > index + 1) {
+            firstId = VehicleReference.parseId(parameters.get(index + 1), INVALID_VEHICLE_CURSOR);
+            if (firstId < Vehicle.NO_ID) {
+                throw new InvalidUserInputException(INVALID_VEHICLE_CURSOR);
+            }
+        }
+        return new Pagination(pageSize, firstId);
+    }
+
+    int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Returns the position of the first item, or the id of the first vehicle.
+     */
+    long getCursor() {
+        return cursor;
+    }
+
+    /**
+     * Ends the page with the cursor of the next one, unless the page reached the end of the list.
+     */
+    static void appendNextCursor(Appendable output, int nextCursor, int itemCount) throws IOException {
+        if (nextCursor < itemCount) {
+            output.append(System.lineSeparator()).append(String.format(NEXT_CURSOR, nextCursor));
+        }
+    }
+
+    /**
+     * Ends the page with the id of the first vehicle of the next one, unless the page reached the end of the list.
+     */
+    static void appendNextVehicleCursor(Appendable output, long nextVehicleId) throws IOException {
+        if (nextVehicleId != Vehicle.NO_ID) {
+            output.append(System.lineSeparator()).append(String.format(NEXT_CURSOR, VehicleReference.formatId(nextVehicleId)));
+        }
+    }
+
+    private static int parsePageSize(List<String> parameters, int index) {
+        if (parameters.size() <= index) {
+            return Integer.MAX_VALUE;
+        }
+        int pageSize = ParsingHelpers.tryParseInt(parameters.get(index), INVALID_PAGE_SIZE);
+        ValidationHelpers.validateIntRange(pageSize, 1, Integer.MAX_VALUE, INVALID_PAGE_SIZE);
+        return pageSize;
+    }
+}
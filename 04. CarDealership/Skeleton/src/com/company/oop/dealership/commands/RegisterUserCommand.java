@@ -1,6 +1,8 @@
 package com.company.oop.dealership.commands;
 
+import com.company.oop.dealership.commands.enums.CommandType;
 import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
+import com.company.oop.dealership.exceptions.InvalidUserInputException;
 import com.company.oop.dealership.models.contracts.User;
 import com.company.oop.dealership.models.enums.UserRole;
 import com.company.oop.dealership.utils.ParsingHelpers;
@@ -16,7 +18,7 @@ public class RegisterUserCommand extends BaseCommand {
     public static final int EXPECTED_NUMBER_OF_ARGUMENTS = 4;
 
     public RegisterUserCommand(VehicleDealershipRepository vehicleDealershipRepository) {
-        super(vehicleDealershipRepository);
+        super(CommandType.REGISTERUSER, vehicleDealershipRepository);
     }
 
     @Override
@@ -52,9 +54,14 @@ public class RegisterUserCommand extends BaseCommand {
 
     private void throwIfUserLoggedIn() {
         if (getVehicleDealershipRepository().hasLoggedInUser()) {
-            throw new IllegalArgumentException(
+            throw new InvalidUserInputException(
                     String.format(USER_LOGGED_IN_ALREADY, getVehicleDealershipRepository().getLoggedInUser().getUsername())
             );
         }
     }
+
+    @Override
+    public boolean changesRepository() {
+        return true;
+    }
 }
@@ -1,5 +1,6 @@
 package com.company.oop.dealership.commands;
 
+import com.company.oop.dealership.commands.enums.CommandType;
 import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
 import com.company.oop.dealership.models.contracts.Comment;
 import com.company.oop.dealership.models.contracts.User;
@@ -8,8 +9,13 @@ import com.company.oop.dealership.utils.ParsingHelpers;
 import com.company.oop.dealership.utils.ValidationHelpers;
 
 import java.util.List;
+import java.util.Map;
 
-
+/**
+ * Removes a comment by the positions of the vehicle and the comment, e.g. "RemoveComment 1 2 pesho",
+ * with the vehicle given by its id instead, e.g. "RemoveComment #5 2 pesho",
+ * or by the comment id shown by ShowCommentsBy, which is written like a vehicle id, e.g. "RemoveComment #17".
+ */
 public class RemoveCommentCommand extends BaseCommand {
 
     private final static String COMMENT_INDEX_OUT_OF_BOUNDS = "There is no comment on this index.";
@@ -17,39 +23,57 @@ public class RemoveCommentCommand extends BaseCommand {
     public final static String COMMENT_REMOVED_SUCCESSFULLY = "%s removed comment successfully!";
     private final static String INVALID_VEHICLE_INDEX = "Invalid vehicle index. Expected a number.";
     private final static String VEHICLE_INDEX_OUT_OF_BOUNDS = "There is no vehicle on this index.";
+    private final static String INVALID_COMMENT_ID = "Invalid comment id. Expected # followed by a number.";
 
     public static final int EXPECTED_NUMBER_OF_ARGUMENTS = 3;
+    public static final int EXPECTED_NUMBER_OF_ARGUMENTS_BY_ID = 1;
 
     public RemoveCommentCommand(VehicleDealershipRepository vehicleDealershipRepository) {
-        super(vehicleDealershipRepository);
+        super(CommandType.REMOVECOMMENT, vehicleDealershipRepository);
     }
 
     @Override
     protected String executeCommand(List<String> parameters) {
+        if (parameters.size() == EXPECTED_NUMBER_OF_ARGUMENTS_BY_ID) {
+            long commentId = VehicleReference.parseId(parameters.get(0), INVALID_COMMENT_ID);
+            return removeComment(commentId);
+        }
         ValidationHelpers.validateArgumentsCount(parameters, EXPECTED_NUMBER_OF_ARGUMENTS);
-        int vehicleIndex = ParsingHelpers.tryParseInt(parameters.get(0), INVALID_VEHICLE_INDEX) - 1;
+        VehicleReference vehicleReference = VehicleReference.parse(parameters.get(0), INVALID_VEHICLE_INDEX);
         int commentIndex = ParsingHelpers.tryParseInt(parameters.get(1), INVALID_COMMENT_INDEX) - 1;
         String username = parameters.get(2);
 
-        return removeComment(vehicleIndex, commentIndex, username);
+        return removeComment(vehicleReference, commentIndex, username);
     }
 
-    private String removeComment(int vehicleIndex, int commentIndex, String username) {
+    private String removeComment(VehicleReference vehicleReference, int commentIndex, String username) {
         User user = getVehicleDealershipRepository().findUserByUsername(username);
 
-        ValidationHelpers.validateIntRange(vehicleIndex, 0, user.getVehicles().size() - 1, VEHICLE_INDEX_OUT_OF_BOUNDS);
-        ValidationHelpers.validateIntRange(commentIndex, 0, user.getVehicles().get(vehicleIndex).getComments().size() - 1, COMMENT_INDEX_OUT_OF_BOUNDS);
+        Vehicle vehicle = vehicleReference.find(getVehicleDealershipRepository(), user, VEHICLE_INDEX_OUT_OF_BOUNDS);
 
-        Vehicle vehicle = user.getVehicles().get(vehicleIndex);
-        Comment comment = user.getVehicles().get(vehicleIndex).getComments().get(commentIndex);
+        ValidationHelpers.validateIntRange(commentIndex, 0, vehicle.getCommentCount() - 1, COMMENT_INDEX_OUT_OF_BOUNDS);
+        Comment comment = vehicle.getComment(commentIndex);
 
         getVehicleDealershipRepository().getLoggedInUser().removeComment(comment, vehicle);
 
         return String.format(COMMENT_REMOVED_SUCCESSFULLY, getVehicleDealershipRepository().getLoggedInUser().getUsername());
     }
 
+    private String removeComment(long commentId) {
+        Map.Entry<Comment, Vehicle> comment = getVehicleDealershipRepository().findCommentById(commentId);
+
+        getVehicleDealershipRepository().getLoggedInUser().removeComment(comment.getKey(), comment.getValue());
+
+        return String.format(COMMENT_REMOVED_SUCCESSFULLY, getVehicleDealershipRepository().getLoggedInUser().getUsername());
+    }
+
     @Override
     protected boolean requiresLogin() {
         return true;
     }
+
+    @Override
+    public boolean changesRepository() {
+        return true;
+    }
 }
@@ -1,15 +1,18 @@
 package com.company.oop.dealership.commands;
 
 
+import com.company.oop.dealership.commands.enums.CommandType;
 import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
 import com.company.oop.dealership.models.contracts.User;
 import com.company.oop.dealership.models.contracts.Vehicle;
-import com.company.oop.dealership.utils.ParsingHelpers;
 import com.company.oop.dealership.utils.ValidationHelpers;
 
 import java.util.List;
 
 
+/**
+ * Removes a vehicle of the logged in user by its position, e.g. "RemoveVehicle 2", or by its id, e.g. "RemoveVehicle #17".
+ */
 public class RemoveVehicleCommand extends BaseCommand {
 
     private final static String VEHICLE_REMOVED_SUCCESSFULLY = "%s removed vehicle successfully!";
@@ -19,21 +22,19 @@ public class RemoveVehicleCommand extends BaseCommand {
     public static final int EXPECTED_NUMBER_OF_ARGUMENTS = 1;
 
     public RemoveVehicleCommand(VehicleDealershipRepository vehicleDealershipRepository) {
-        super(vehicleDealershipRepository);
+        super(CommandType.REMOVEVEHICLE, vehicleDealershipRepository);
     }
 
     @Override
     protected String executeCommand(List<String> parameters) {
         ValidationHelpers.validateArgumentsCount(parameters, EXPECTED_NUMBER_OF_ARGUMENTS);
-        int vehicleIndex = ParsingHelpers.tryParseInt(parameters.get(0), INVALID_VEHICLE_INDEX) - 1;
-        return removeVehicle(vehicleIndex);
+        VehicleReference vehicleReference = VehicleReference.parse(parameters.get(0), INVALID_VEHICLE_INDEX);
+        return removeVehicle(vehicleReference);
     }
 
-    private String removeVehicle(int vehicleIndex) {
+    private String removeVehicle(VehicleReference vehicleReference) {
         User loggedUser = getVehicleDealershipRepository().getLoggedInUser();
-        ValidationHelpers.validateIntRange(vehicleIndex, 0, loggedUser.getVehicles().size() - 1, VEHICLE_INDEX_OUT_OF_BOUNDS);
-
-        Vehicle vehicle = loggedUser.getVehicles().get(vehicleIndex);
+        Vehicle vehicle = vehicleReference.find(getVehicleDealershipRepository(), loggedUser, VEHICLE_INDEX_OUT_OF_BOUNDS);
 
         loggedUser.removeVehicle(vehicle);
 
@@ -44,4 +45,9 @@ public class RemoveVehicleCommand extends BaseCommand {
     protected boolean requiresLogin() {
         return true;
     }
+
+    @Override
+    public boolean changesRepository() {
+        return true;
+    }
 }
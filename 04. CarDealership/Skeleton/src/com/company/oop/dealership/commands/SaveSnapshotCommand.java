@@ -0,0 +1,56 @@
+package com.company.oop.dealership.commands;
+
+import com.company.oop.dealership.commands.enums.CommandType;
+import com.company.oop.dealership.core.RepositorySnapshot;
+import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
+import com.company.oop.dealership.exceptions.InvalidUserInputException;
+import com.company.oop.dealership.utils.ValidationHelpers;
+
+import java.io.IOException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Saves all users, vehicles and comments to a snapshot file, e.g. "SaveSnapshot dealership.snapshot".
+ */
+public class SaveSnapshotCommand extends BaseCommand {
+
+    public static final int EXPECTED_NUMBER_OF_ARGUMENTS = 1;
+
+    private static final String NOT_AN_ADMIN = "You are not an admin!";
+    private static final String SNAPSHOT_SAVED = "Saved %d users and %d vehicles to %s.";
+    private static final String SNAPSHOT_NOT_SAVED = "Cannot save snapshot to %s.";
+
+    public SaveSnapshotCommand(VehicleDealershipRepository vehicleDealershipRepository) {
+        super(CommandType.SAVESNAPSHOT, vehicleDealershipRepository);
+    }
+
+    @Override
+    protected String executeCommand(List<String> parameters) {
+        ValidationHelpers.validateArgumentsCount(parameters, EXPECTED_NUMBER_OF_ARGUMENTS);
+        if (!getVehicleDealershipRepository().getLoggedInUser().isAdmin()) {
+            throw new InvalidUserInputException(NOT_AN_ADMIN);
+        }
+        String fileName = parameters.get(0);
+
+        RepositorySnapshot snapshot = new RepositorySnapshot();
+        try {
+            snapshot.save(getVehicleDealershipRepository(), Path.of(fileName));
+        } catch (IOException | InvalidPathException e) {
+            throw new InvalidUserInputException(String.format(SNAPSHOT_NOT_SAVED, fileName));
+        }
+
+        return String.format(SNAPSHOT_SAVED, snapshot.getUserCount(), snapshot.getVehicleCount(), fileName);
+    }
+
+    @Override
+    protected boolean requiresLogin() {
+        return true;
+    }
+
+    @Override
+    public boolean blocksChanges() {
+        return true;
+    }
+}
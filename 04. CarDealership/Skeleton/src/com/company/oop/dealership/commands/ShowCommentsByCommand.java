@@ -0,0 +1,64 @@
+package com.company.oop.dealership.commands;
+
+import com.company.oop.dealership.commands.enums.CommandType;
+import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
+import com.company.oop.dealership.models.contracts.Comment;
+import com.company.oop.dealership.models.contracts.Vehicle;
+import com.company.oop.dealership.utils.FormattingHelpers;
+import com.company.oop.dealership.utils.ValidationHelpers;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shows the comments written by an author on the vehicles of all users, e.g. "ShowCommentsBy pesho",
+ * each with its id, so it can be removed with "RemoveComment #id".
+ */
+public class ShowCommentsByCommand extends BaseCommand {
+
+    private static final String COMMENTS_HEADER = "--COMMENTS BY %s--";
+    private static final String NO_COMMENTS_HEADER = "--NO COMMENTS--";
+    private static final String COMMENT_HEADER = "%d. Id: %s, %s: %s %s";
+
+    public static final int EXPECTED_NUMBER_OF_ARGUMENTS = 1;
+
+    public ShowCommentsByCommand(VehicleDealershipRepository vehicleDealershipRepository) {
+        super(CommandType.SHOWCOMMENTSBY, vehicleDealershipRepository);
+    }
+
+    @Override
+    protected String executeCommand(List<String> parameters) {
+        return FormattingHelpers.renderToString(output -> executeCommand(parameters, output));
+    }
+
+    @Override
+    protected void executeCommand(List<String> parameters, Appendable output) throws IOException {
+        ValidationHelpers.validateArgumentsCount(parameters, EXPECTED_NUMBER_OF_ARGUMENTS);
+        String author = parameters.get(0);
+        Map<Comment, Vehicle> comments = getVehicleDealershipRepository().findCommentsByAuthor(author);
+        output.append(String.format(COMMENTS_HEADER, author));
+        if (comments.isEmpty()) {
+            output.append(System.lineSeparator()).append(NO_COMMENTS_HEADER);
+            return;
+        }
+        int counter = 1;
+        for (Map.Entry<Comment, Vehicle> entry : comments.entrySet()) {
+            Comment comment = entry.getKey();
+            Vehicle vehicle = entry.getValue();
+            output.append(System.lineSeparator()).append(String.format(COMMENT_HEADER,
+                    counter++,
+                    VehicleReference.formatId(comment.getId()),
+                    vehicle.getType(),
+                    vehicle.getMake(),
+                    vehicle.getModel()));
+            output.append(System.lineSeparator());
+            comment.render(output);
+        }
+    }
+
+    @Override
+    protected boolean requiresLogin() {
+        return true;
+    }
+}
@@ -0,0 +1,63 @@
+package com.company.oop.dealership.commands;
+
+import com.company.oop.dealership.commands.enums.CommandType;
+import com.company.oop.dealership.core.StringPool;
+import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
+import com.company.oop.dealership.utils.FormattingHelpers;
+import com.company.oop.dealership.utils.RenderCache;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Shows how many distinct makes, models and categories the vehicles in the dealership have and how much memory
+ * sharing them saves, compared to a separate copy for every vehicle, how big the price index is
+ * and how full the render cache is.
+ */
+public class ShowMemoryReportCommand extends BaseCommand {
+
+    private static final String MEMORY_HEADER = "--MEMORY--";
+    private static final String POOL_REPORT = "%s: %d distinct, %d references, %d bytes saved";
+    private static final String TOTAL_REPORT = "Total: %d bytes saved";
+    private static final String PRICE_INDEX_REPORT = "Price index: about %d bytes";
+    private static final String RENDER_CACHE_REPORT = "Render cache: %d entries, %d of %d bytes, %d hits, %d misses";
+
+    public ShowMemoryReportCommand(VehicleDealershipRepository vehicleDealershipRepository) {
+        super(CommandType.SHOWMEMORYREPORT, vehicleDealershipRepository);
+    }
+
+    @Override
+    protected String executeCommand(List<String> parameters) {
+        return FormattingHelpers.renderToString(output -> executeCommand(parameters, output));
+    }
+
+    @Override
+    protected void executeCommand(List<String> parameters, Appendable output) throws IOException {
+        output.append(MEMORY_HEADER);
+        long totalBytesSaved = 0;
+        for (StringPool pool : getVehicleDealershipRepository().getStringPools()) {
+            long bytesSaved = pool.getBytesSaved();
+            output.append(System.lineSeparator()).append(String.format(POOL_REPORT,
+                    pool.getName(),
+                    pool.getDistinctCount(),
+                    pool.getReferenceCount(),
+                    bytesSaved));
+            totalBytesSaved += bytesSaved;
+        }
+        output.append(System.lineSeparator()).append(String.format(TOTAL_REPORT, totalBytesSaved));
+        output.append(System.lineSeparator()).append(String.format(PRICE_INDEX_REPORT,
+                getVehicleDealershipRepository().getPriceIndexBytes()));
+        RenderCache renderCache = RenderCache.getShared();
+        output.append(System.lineSeparator()).append(String.format(RENDER_CACHE_REPORT,
+                renderCache.getEntryCount(),
+                renderCache.getUsedBytes(),
+                renderCache.getBudgetBytes(),
+                renderCache.getHitCount(),
+                renderCache.getMissCount()));
+    }
+
+    @Override
+    protected boolean requiresLogin() {
+        return false;
+    }
+}
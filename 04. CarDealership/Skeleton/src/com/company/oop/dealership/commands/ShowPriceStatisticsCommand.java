@@ -0,0 +1,67 @@
+package com.company.oop.dealership.commands;
+
+import com.company.oop.dealership.commands.enums.CommandType;
+import com.company.oop.dealership.core.PriceSummary;
+import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
+import com.company.oop.dealership.models.enums.VehicleGrouping;
+import com.company.oop.dealership.utils.FormattingHelpers;
+import com.company.oop.dealership.utils.ParsingHelpers;
+import com.company.oop.dealership.utils.ValidationHelpers;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Shows the count, total, average, minimum and maximum price of the vehicles of all users,
+ * grouped by type, make or model, e.g. "ShowPriceStatistics Make".
+ */
+public class ShowPriceStatisticsCommand extends BaseCommand {
+
+    public static final int EXPECTED_NUMBER_OF_ARGUMENTS = 1;
+
+    private static final String PRICES_HEADER = "--PRICES BY %s--";
+    private static final String NO_VEHICLES_HEADER = "--NO VEHICLES--";
+    private static final String GROUP_SUMMARY = "%s: %d vehicles, total $%s, average $%s, min $%s, max $%s";
+    private static final double CENTS_PER_DOLLAR = 100;
+
+    public ShowPriceStatisticsCommand(VehicleDealershipRepository vehicleDealershipRepository) {
+        super(CommandType.SHOWPRICESTATISTICS, vehicleDealershipRepository);
+    }
+
+    @Override
+    protected String executeCommand(List<String> parameters) {
+        return FormattingHelpers.renderToString(output -> executeCommand(parameters, output));
+    }
+
+    @Override
+    protected void executeCommand(List<String> parameters, Appendable output) throws IOException {
+        ValidationHelpers.validateArgumentsCount(parameters, EXPECTED_NUMBER_OF_ARGUMENTS);
+        VehicleGrouping grouping = ParsingHelpers.tryParseEnum(parameters.get(0), VehicleGrouping.class);
+
+        List<PriceSummary> summaries = getVehicleDealershipRepository().summarizePrices(grouping);
+
+        output.append(String.format(PRICES_HEADER, grouping.name()));
+        if (summaries.isEmpty()) {
+            output.append(System.lineSeparator()).append(NO_VEHICLES_HEADER);
+            return;
+        }
+        for (PriceSummary summary : summaries) {
+            output.append(System.lineSeparator()).append(String.format(GROUP_SUMMARY,
+                    summary.getGroup(),
+                    summary.getCount(),
+                    formatPrice(summary.getSum()),
+                    formatPrice(summary.getAverage()),
+                    formatPrice(summary.getMin()),
+                    formatPrice(summary.getMax())));
+        }
+    }
+
+    @Override
+    protected boolean requiresLogin() {
+        return true;
+    }
+
+    private static String formatPrice(double price) {
+        return FormattingHelpers.formatPrice(Math.round(price * CENTS_PER_DOLLAR));
+    }
+}
@@ -1,5 +1,51 @@
 package com.company.oop.dealership.commands;
 
-public class ShowUsersCommand {
-    //TODO
+import com.company.oop.dealership.commands.enums.CommandType;
+import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
+import com.company.oop.dealership.exceptions.InvalidUserInputException;
+import com.company.oop.dealership.models.contracts.User;
+import com.company.oop.dealership.utils.FormattingHelpers;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Shows all registered users, or a page of them, e.g. "ShowUsers 50" for the first fifty
+ * and "ShowUsers 50 100" for the third page.
+ */
+public class ShowUsersCommand extends BaseCommand {
+
+    private static final String NOT_AN_ADMIN = "You are not an admin!";
+    private static final String USERS_HEADER = "--USERS--";
+
+    public ShowUsersCommand(VehicleDealershipRepository vehicleDealershipRepository) {
+        super(CommandType.SHOWUSERS, vehicleDealershipRepository);
+    }
+
+    @Override
+    protected String executeCommand(List<String> parameters) {
+        return FormattingHelpers.renderToString(output -> executeCommand(parameters, output));
+    }
+
+    @Override
+    protected void executeCommand(List<String> parameters, Appendable output) throws IOException {
+        if (!getVehicleDealershipRepository().getLoggedInUser().isAdmin()) {
+            throw new InvalidUserInputException(NOT_AN_ADMIN);
+        }
+        List<User> users = getVehicleDealershipRepository().getUsers();
+        Pagination page = Pagination.parse(parameters, 0, users.size());
+        int start = (int) page.getCursor();
+        int end = (int) Math.min(users.size(), (long) start + page.getPageSize());
+        output.append(USERS_HEADER);
+        for (int i = start; i < end; i++) {
+            output.append(System.lineSeparator()).append(String.valueOf(i + 1)).append(". ");
+            users.get(i).render(output);
+        }
+        Pagination.appendNextCursor(output, end, users.size());
+    }
+
+    @Override
+    protected boolean requiresLogin() {
+        return true;
+    }
 }
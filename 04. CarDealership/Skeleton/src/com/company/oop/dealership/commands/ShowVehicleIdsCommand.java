@@ -0,0 +1,59 @@
+package com.company.oop.dealership.commands;
+
+import com.company.oop.dealership.commands.enums.CommandType;
+import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
+import com.company.oop.dealership.models.contracts.User;
+import com.company.oop.dealership.models.contracts.Vehicle;
+import com.company.oop.dealership.utils.FormattingHelpers;
+import com.company.oop.dealership.utils.ValidationHelpers;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Shows the ids of the vehicles of a user, e.g. "ShowVehicleIds pesho", so they can be given
+ * as "#id" to RemoveVehicle, AddComment and RemoveComment instead of their positions.
+ */
+public class ShowVehicleIdsCommand extends BaseCommand {
+
+    private static final String VEHICLE_IDS_HEADER = "--VEHICLE IDS OF %s--";
+    private static final String NO_VEHICLES_HEADER = "--NO VEHICLES--";
+    private static final String VEHICLE_ID = "%d. Id: %d, %s: %s %s";
+
+    public static final int EXPECTED_NUMBER_OF_ARGUMENTS = 1;
+
+    public ShowVehicleIdsCommand(VehicleDealershipRepository vehicleDealershipRepository) {
+        super(CommandType.SHOWVEHICLEIDS, vehicleDealershipRepository);
+    }
+
+    @Override
+    protected String executeCommand(List<String> parameters) {
+        return FormattingHelpers.renderToString(output -> executeCommand(parameters, output));
+    }
+
+    @Override
+    protected void executeCommand(List<String> parameters, Appendable output) throws IOException {
+        ValidationHelpers.validateArgumentsCount(parameters, EXPECTED_NUMBER_OF_ARGUMENTS);
+        User user = getVehicleDealershipRepository().findUserByUsername(parameters.get(0));
+        List<Vehicle> vehicles = user.getVehicles();
+        output.append(String.format(VEHICLE_IDS_HEADER, user.getUsername()));
+        if (vehicles.isEmpty()) {
+            output.append(System.lineSeparator()).append(NO_VEHICLES_HEADER);
+            return;
+        }
+        for (int i = 0; i < vehicles.size(); i++) {
+            Vehicle vehicle = vehicles.get(i);
+            output.append(System.lineSeparator()).append(String.format(VEHICLE_ID,
+                    i + 1,
+                    vehicle.getId(),
+                    vehicle.getType(),
+                    vehicle.getMake(),
+                    vehicle.getModel()));
+        }
+    }
+
+    @Override
+    protected boolean requiresLogin() {
+        return true;
+    }
+}
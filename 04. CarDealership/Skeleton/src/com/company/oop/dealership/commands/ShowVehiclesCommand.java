@@ -1,24 +1,48 @@
 package com.company.oop.dealership.commands;
 
+import com.company.oop.dealership.commands.enums.CommandType;
 import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
 import com.company.oop.dealership.models.contracts.User;
+import com.company.oop.dealership.utils.FormattingHelpers;
 import com.company.oop.dealership.utils.ValidationHelpers;
 
+import java.io.IOException;
 import java.util.List;
 
+/**
+ * Shows the vehicles of a user, e.g. "ShowVehicles pesho", or a page of them,
+ * e.g. "ShowVehicles pesho 20" for the first twenty and "ShowVehicles pesho 20 #41" for the twenty
+ * starting with vehicle #41, as printed at the end of the previous page.
+ */
 public class ShowVehiclesCommand extends BaseCommand {
 
     public static final int EXPECTED_NUMBER_OF_ARGUMENTS = 1;
 
     public ShowVehiclesCommand(VehicleDealershipRepository vehicleDealershipRepository) {
-        super(vehicleDealershipRepository);
+        super(CommandType.SHOWVEHICLES, vehicleDealershipRepository);
     }
 
     @Override
     protected String executeCommand(List<String> parameters) {
+        ValidationHelpers.validateArgumentsCount(parameters, EXPECTED_NUMBER_OF_ARGUMENTS);
+        if (parameters.size() == EXPECTED_NUMBER_OF_ARGUMENTS) {
+            return showUserVehicles(parameters.get(0));
+        }
+        return FormattingHelpers.renderToString(output -> executeCommand(parameters, output));
+    }
+
+    @Override
+    protected void executeCommand(List<String> parameters, Appendable output) throws IOException {
         ValidationHelpers.validateArgumentsCount(parameters, EXPECTED_NUMBER_OF_ARGUMENTS);
         String username = parameters.get(0);
-        return showUserVehicles(username);
+        User user = getVehicleDealershipRepository().findUserByUsername(username);
+        if (parameters.size() == EXPECTED_NUMBER_OF_ARGUMENTS) {
+            user.renderVehicles(output);
+            return;
+        }
+        Pagination page = Pagination.parseVehicles(parameters, EXPECTED_NUMBER_OF_ARGUMENTS);
+        long nextVehicleId = user.renderVehicles(output, page.getCursor(), page.getPageSize());
+        Pagination.appendNextVehicleCursor(output, nextVehicleId);
     }
 
     private String showUserVehicles(String username) {
@@ -0,0 +1,55 @@
+package com.company.oop.dealership.commands;
+
+import com.company.oop.dealership.commands.enums.CommandType;
+import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
+import com.company.oop.dealership.models.contracts.User;
+import com.company.oop.dealership.models.contracts.Vehicle;
+import com.company.oop.dealership.utils.FormattingHelpers;
+import com.company.oop.dealership.utils.ParsingHelpers;
+import com.company.oop.dealership.utils.ValidationHelpers;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Lists the vehicles of all users priced from min to max, cheapest first, e.g.
+ * "ShowVehiclesInPriceRange 5000 12000" or, for the ten cheapest of them, "ShowVehiclesInPriceRange 5000 12000 10".
+ */
+public class ShowVehiclesInPriceRangeCommand extends BaseCommand {
+
+    public static final int EXPECTED_NUMBER_OF_ARGUMENTS = 2;
+    public static final String INVALID_PRICE = "Invalid value for price. Should be a number.";
+    public static final String INVALID_LIMIT = "Invalid limit. Expected a positive number.";
+
+    public ShowVehiclesInPriceRangeCommand(VehicleDealershipRepository vehicleDealershipRepository) {
+        super(CommandType.SHOWVEHICLESINPRICERANGE, vehicleDealershipRepository);
+    }
+
+    @Override
+    protected String executeCommand(List<String> parameters) {
+        return FormattingHelpers.renderToString(output -> executeCommand(parameters, output));
+    }
+
+    @Override
+    protected void executeCommand(List<String> parameters, Appendable output) throws IOException {
+        ValidationHelpers.validateArgumentsCount(parameters, EXPECTED_NUMBER_OF_ARGUMENTS);
+        double min = ParsingHelpers.tryParseDouble(parameters.get(0), INVALID_PRICE);
+        double max = ParsingHelpers.tryParseDouble(parameters.get(1), INVALID_PRICE);
+        int limit = Integer.MAX_VALUE;
+        if (parameters.size() > EXPECTED_NUMBER_OF_ARGUMENTS) {
+            limit = ParsingHelpers.tryParseInt(parameters.get(2), INVALID_LIMIT);
+            ValidationHelpers.validateIntRange(limit, 1, Integer.MAX_VALUE, INVALID_LIMIT);
+        }
+
+        try (Stream<Map.Entry<Vehicle, User>> vehicles = getVehicleDealershipRepository().findVehiclesInPriceRange(min, max)) {
+            FindVehiclesCommand.renderVehicles(vehicles.limit(limit).iterator(), output);
+        }
+    }
+
+    @Override
+    protected boolean requiresLogin() {
+        return true;
+    }
+}
@@ -0,0 +1,59 @@
+package com.company.oop.dealership.commands;
+
+import com.company.oop.dealership.commands.enums.CommandType;
+import com.company.oop.dealership.core.contracts.CommandJournal;
+import com.company.oop.dealership.core.contracts.CommandStatistics;
+import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
+import com.company.oop.dealership.utils.FormattingHelpers;
+
+import java.io.IOException;
+import java.util.List;
+
+public class StatsCommand extends BaseCommand {
+
+    private static final String STATS_HEADER = "--STATS--";
+    private static final String COMMAND_STATS =
+            "%s: %d succeeded, %d failed, p50 %dns, p90 %dns, p99 %dns, max %dns";
+    private static final String JOURNAL_STATS =
+            "JOURNAL: %d records, %d records/sec, %d fsyncs, %d records per fsync on average, max %d";
+
+    public StatsCommand(VehicleDealershipRepository vehicleDealershipRepository) {
+        super(CommandType.STATS, vehicleDealershipRepository);
+    }
+
+    @Override
+    protected String executeCommand(List<String> parameters) {
+        return FormattingHelpers.renderToString(output -> executeCommand(parameters, output));
+    }
+
+    @Override
+    protected void executeCommand(List<String> parameters, Appendable output) throws IOException {
+        CommandStatistics statistics = getVehicleDealershipRepository().getCommandStatistics();
+        output.append(STATS_HEADER);
+        for (CommandType commandType : CommandType.values()) {
+            output.append(System.lineSeparator()).append(String.format(COMMAND_STATS,
+                    commandType,
+                    statistics.getSuccessCount(commandType),
+                    statistics.getFailureCount(commandType),
+                    statistics.getLatencyPercentile(commandType, 50),
+                    statistics.getLatencyPercentile(commandType, 90),
+                    statistics.getLatencyPercentile(commandType, 99),
+                    statistics.getMaxLatency(commandType)));
+        }
+        CommandJournal journal = getVehicleDealershipRepository().getCommandJournal();
+        if (journal.isEnabled()) {
+            long syncCount = journal.getSyncCount();
+            output.append(System.lineSeparator()).append(String.format(JOURNAL_STATS,
+                    journal.getRecordCount(),
+                    journal.getRecordsPerSecond(),
+                    syncCount,
+                    syncCount == 0 ? 0 : journal.getRecordCount() / syncCount,
+                    journal.getMaxBatchSize()));
+        }
+    }
+
+    @Override
+    protected boolean requiresLogin() {
+        return false;
+    }
+}
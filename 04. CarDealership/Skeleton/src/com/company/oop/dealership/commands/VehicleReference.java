@@ -0,0 +1,65 @@
+package com.company.oop.dealership.commands;
+
+import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
+import com.company.oop.dealership.exceptions.InvalidUserInputException;
+import com.company.oop.dealership.models.contracts.User;
+import com.company.oop.dealership.models.contracts.Vehicle;
+import com.company.oop.dealership.utils.ParsingHelpers;
+import com.company.oop.dealership.utils.ValidationHelpers;
+
+import java.util.Map;
+
+/**
+ * A vehicle parameter of the commands, given either by its 1-based position in the owner's vehicles, e.g. "2",
+ * or by its id, e.g. "#17". Positions shift when a vehicle is removed, ids do not.
+ */
+class VehicleReference {
+
+    private static final String ID_PREFIX = "#";
+    private static final String INVALID_VEHICLE_ID = "Invalid vehicle id. Expected # followed by a number.";
+    private static final String NOT_AN_OWNER = "Vehicle %d does not belong to %s!";
+
+    private final long id;
+    private final int index;
+
+    private VehicleReference(long id, int index) {
+        this.id = id;
+        this.index = index;
+    }
+
+    static VehicleReference parse(String value, String invalidIndex) {
+        if (value.startsWith(ID_PREFIX)) {
+            return new VehicleReference(parseId(value, INVALID_VEHICLE_ID), 0);
+        }
+        return new VehicleReference(Vehicle.NO_ID, ParsingHelpers.tryParseInt(value, invalidIndex) - 1);
+    }
+
+    /**
+     * Parses an id written as "#17".
+     */
+    static long parseId(String value, String invalidId) {
+        if (!value.startsWith(ID_PREFIX)) {
+            throw new InvalidUserInputException(invalidId);
+        }
+        return ParsingHelpers.tryParseLong(value.substring(ID_PREFIX.length()), invalidId);
+    }
+
+    static String formatId(long id) {
+        return ID_PREFIX + id;
+    }
+
+    /**
+     * Returns the vehicle of the owner with that id or on that position.
+     */
+    Vehicle find(VehicleDealershipRepository repository, User owner, String indexOutOfBounds) {
+        if (id == Vehicle.NO_ID) {
+            ValidationHelpers.validateIntRange(index, 0, owner.getVehicleCount() - 1, indexOutOfBounds);
+            return owner.getVehicle(index);
+        }
+        Map.Entry<Vehicle, User> vehicle = repository.findVehicleById(id);
+        if (vehicle.getValue() != owner) {
+            throw new InvalidUserInputException(String.format(NOT_AN_OWNER, id, owner.getUsername()));
+        }
+        return vehicle.getKey();
+    }
+}
@@ -1,9 +1,34 @@
 package com.company.oop.dealership.commands.contracts;
 
+import java.io.IOException;
 import java.util.List;
 
 public interface Command {
 
     String execute(List<String> parameters);
 
+    /**
+     * Executes the command and writes its result straight into the given sink.
+     * Commands producing large reports override this to avoid building the whole report as one String.
+     */
+    default void execute(List<String> parameters, Appendable output) throws IOException {
+        output.append(execute(parameters));
+    }
+
+    /**
+     * Commands that change the users, vehicles or comments are journaled, and engines running
+     * many sessions at once execute them one at a time, in the order they are journaled.
+     */
+    default boolean changesRepository() {
+        return false;
+    }
+
+    /**
+     * Commands that must not run while the repository changes, e.g. saving it together with
+     * the journal sequence, are executed one at a time with the changing commands, but are not journaled.
+     */
+    default boolean blocksChanges() {
+        return false;
+    }
+
 }
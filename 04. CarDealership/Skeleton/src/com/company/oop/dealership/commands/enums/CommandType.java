@@ -8,6 +8,15 @@ public enum CommandType {
     REMOVEVEHICLE,
     ADDCOMMENT,
     REMOVECOMMENT,
+    SHOWCOMMENTSBY,
     SHOWUSERS,
-    SHOWVEHICLES
+    SHOWVEHICLES,
+    SHOWVEHICLEIDS,
+    FINDVEHICLES,
+    SHOWVEHICLESINPRICERANGE,
+    SHOWPRICESTATISTICS,
+    SAVESNAPSHOT,
+    LOADSNAPSHOT,
+    SHOWMEMORYREPORT,
+    STATS
 }
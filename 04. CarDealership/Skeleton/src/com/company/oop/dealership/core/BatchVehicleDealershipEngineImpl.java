@@ -0,0 +1,73 @@
+package com.company.oop.dealership.core;
+
+import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * Engine for replaying whole command scripts. Reads the input through one large buffered reader
+ * and writes all results through one buffered writer, which is flushed only when its buffer
+ * fills up or when the script ends. The printed text is the same as in interactive mode.
+ */
+public class BatchVehicleDealershipEngineImpl extends VehicleDealershipEngineImpl {
+
+    public static final int INPUT_BUFFER_SIZE = 1 << 16;
+    public static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+
+    private final BufferedReader reader;
+    private final BufferedWriter writer;
+
+    public BatchVehicleDealershipEngineImpl() {
+        this(new InputStreamReader(System.in), new OutputStreamWriter(System.out));
+    }
+
+    public BatchVehicleDealershipEngineImpl(Reader input, Writer output) {
+        this(input, output, OUTPUT_BUFFER_SIZE);
+    }
+
+    public BatchVehicleDealershipEngineImpl(Reader input, Writer output, int outputBufferSize) {
+        this(input, output, outputBufferSize, new VehicleDealershipRepositoryImpl());
+    }
+
+    public BatchVehicleDealershipEngineImpl(Reader input, Writer output, int outputBufferSize,
+                                            VehicleDealershipRepository vehicleDealershipRepository) {
+        super(vehicleDealershipRepository);
+        this.reader = new BufferedReader(input, INPUT_BUFFER_SIZE);
+        this.writer = new BufferedWriter(output, outputBufferSize);
+    }
+
+    @Override
+    public void start() {
+        try {
+            String inputLine;
+            while ((inputLine = reader.readLine()) != null) {
+                if (!processLine(inputLine)) {
+                    break;
+                }
+            }
+            flushOutput();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    protected void flushOutput() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    protected Appendable getOutput() {
+        return writer;
+    }
+}
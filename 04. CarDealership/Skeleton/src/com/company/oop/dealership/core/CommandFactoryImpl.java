@@ -5,21 +5,43 @@ import com.company.oop.dealership.commands.contracts.Command;
 import com.company.oop.dealership.commands.enums.CommandType;
 import com.company.oop.dealership.core.contracts.CommandFactory;
 import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
-import com.company.oop.dealership.utils.ParsingHelpers;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
 
 public class CommandFactoryImpl implements CommandFactory {
 
+    private final Map<String, Command> commands;
+
+    /**
+     * Builds the dispatch table once. Commands keep no state between executions,
+     * so every command name is mapped to a single instance that is reused for every line.
+     * The names are matched case-insensitively without creating new strings.
+     */
+    public CommandFactoryImpl(VehicleDealershipRepository vehicleDealershipRepository) {
+        Map<String, Command> commandsByName = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (CommandType commandType : CommandType.values()) {
+            commandsByName.put(commandType.name(), createCommand(commandType, vehicleDealershipRepository));
+        }
+        this.commands = Collections.unmodifiableMap(commandsByName);
+    }
+
     @Override
-    public Command createCommandFromCommandName(String commandTypeAsString, VehicleDealershipRepository vehicleDealershipRepository) {
-        CommandType commandType = ParsingHelpers.tryParseEnum(commandTypeAsString, CommandType.class);
+    public Command findCommand(String commandName) {
+        return commands.get(commandName);
+    }
+
+    private static Command createCommand(CommandType commandType, VehicleDealershipRepository vehicleDealershipRepository) {
         switch (commandType) {
             case LOGIN:
                 return new LoginCommand(vehicleDealershipRepository);
             case LOGOUT:
                 return new LogoutCommand(vehicleDealershipRepository);
+            case SHOWCOMMENTSBY:
+                return new ShowCommentsByCommand(vehicleDealershipRepository);
             case SHOWUSERS:
-                //TODO
-                throw new UnsupportedOperationException("Not implemented yet.");
+                return new ShowUsersCommand(vehicleDealershipRepository);
             case ADDCOMMENT:
                 return new AddCommentCommand(vehicleDealershipRepository);
             case ADDVEHICLE:
@@ -32,6 +54,22 @@ public class CommandFactoryImpl implements CommandFactory {
                 return new RemoveCommentCommand(vehicleDealershipRepository);
             case REMOVEVEHICLE:
                 return new RemoveVehicleCommand(vehicleDealershipRepository);
+            case SHOWVEHICLEIDS:
+                return new ShowVehicleIdsCommand(vehicleDealershipRepository);
+            case FINDVEHICLES:
+                return new FindVehiclesCommand(vehicleDealershipRepository);
+            case SHOWVEHICLESINPRICERANGE:
+                return new ShowVehiclesInPriceRangeCommand(vehicleDealershipRepository);
+            case SHOWPRICESTATISTICS:
+                return new ShowPriceStatisticsCommand(vehicleDealershipRepository);
+            case SAVESNAPSHOT:
+                return new SaveSnapshotCommand(vehicleDealershipRepository);
+            case LOADSNAPSHOT:
+                return new LoadSnapshotCommand(vehicleDealershipRepository);
+            case SHOWMEMORYREPORT:
+                return new ShowMemoryReportCommand(vehicleDealershipRepository);
+            case STATS:
+                return new StatsCommand(vehicleDealershipRepository);
             default:
                 throw new IllegalArgumentException();
         }
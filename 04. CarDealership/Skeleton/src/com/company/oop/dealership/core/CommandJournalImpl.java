@@ -0,0 +1,465 @@
+package com.company.oop.dealership.core;
+
+import com.company.oop.dealership.commands.contracts.Command;
+import com.company.oop.dealership.commands.enums.CommandType;
+import com.company.oop.dealership.core.contracts.CommandFactory;
+import com.company.oop.dealership.core.contracts.CommandJournal;
+import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
+import com.company.oop.dealership.exceptions.SnapshotChangedException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * Write-ahead journal kept in a single file. Appended records are collected in memory and written
+ * by a background thread, which forces many of them to the disk at once: it waits at most
+ * {@code maxDelayMillis} after the first record of a batch, or until the batch reaches
+ * {@value #MAX_BATCH_BYTES} bytes. Callers that must not acknowledge a command before it is durable
+ * wait for it with {@link #awaitDurable(long)}, all others lose at most the last batch on a crash.
+ * <p>
+ * Layout: a header (magic number, version) followed by the records. Every record is its length,
+ * the CRC32 of its body and the body: command type, acting user and parameters. Counts and lengths
+ * are ints and strings are UTF-8 bytes after their length (-1 for no user). The command type is stored
+ * as its name, so reordering {@link CommandType} does not change what an existing journal replays.
+ * Version 1 stored the ordinal instead and cannot be read any more.
+ * A record cut short by a crash is dropped when the journal is opened again. The journal cannot be opened when it
+ * loads a snapshot file that has changed since, see {@link com.company.oop.dealership.commands.LoadSnapshotCommand}.
+ * <p>
+ * Records are numbered from 1 in the order they are in the file, also across restarts. A snapshot keeps
+ * the number of the last record it contains, so only the records after it are replayed on top of it.
+ */
+public class CommandJournalImpl implements CommandJournal {
+
+    public static final long DEFAULT_MAX_DELAY_MILLIS = 5;
+    public static final int MAX_BATCH_BYTES = 1 << 20;
+
+    private static final int MAGIC = 0x43444A31;
+    private static final int VERSION = 2;
+    private static final int FILE_HEADER_SIZE = 2 * Integer.BYTES;
+    private static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES;
+    private static final int READ_BUFFER_SIZE = 1 << 20;
+    private static final int INITIAL_BATCH_SIZE = 1 << 16;
+    private static final int NO_ACTOR = -1;
+    private static final String NOT_A_JOURNAL = "%s is not a dealership journal.";
+    private static final String UNSUPPORTED_VERSION = "Journal version %d is not supported.";
+    private static final String JOURNAL_CLOSED = "The journal is closed.";
+    private static final String UNKNOWN_COMMAND_TYPE = "The journal contains the unknown command type %s.";
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final FileChannel channel;
+    private final long maxDelayNanos;
+    private final Object lock;
+    private final CRC32 checksum;
+    private final Thread flusher;
+    private final long openedNanos;
+    private final long openedSequence;
+    private int replayedCount;
+    private int skippedCount;
+    private ByteBuffer pending;
+    private ByteBuffer flushing;
+    private long pendingSinceNanos;
+    private int pendingRecords;
+    private long lastSequence;
+    private long durableSequence;
+    private long syncCount;
+    private int maxBatchSize;
+    private boolean closed;
+    private IOException failure;
+
+    /**
+     * Opens the journal, creating it when missing, and replays all its records into the repository.
+     */
+    public CommandJournalImpl(Path file, VehicleDealershipRepository repository, long maxDelayMillis) throws IOException {
+        this(file, repository, maxDelayMillis, 0);
+    }
+
+    /**
+     * Opens the journal, creating it when missing, and replays its records after {@code snapshotSequence}
+     * into the repository before anything is appended. The records up to it are already contained in the snapshot
+     * the repository was loaded from, see {@link RepositorySnapshot#getJournalSequence()}.
+     * Records that fail to replay are skipped.
+     */
+    public CommandJournalImpl(Path file, VehicleDealershipRepository repository, long maxDelayMillis,
+                              long snapshotSequence) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+        this.lock = new Object();
+        this.checksum = new CRC32();
+        this.pending = ByteBuffer.allocate(INITIAL_BATCH_SIZE);
+        this.flushing = ByteBuffer.allocate(INITIAL_BATCH_SIZE);
+        try {
+            if (channel.size() == 0) {
+                writeHeader();
+            } else {
+                replay(file, repository, snapshotSequence);
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        this.openedNanos = System.nanoTime();
+        this.openedSequence = lastSequence;
+        this.flusher = new Thread(this::flushBatches, "dealership-journal");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    public int getReplayedCount() {
+        return replayedCount;
+    }
+
+    public int getSkippedCount() {
+        return skippedCount;
+    }
+
+    @Override
+    public long append(CommandType commandType, String actor, List<String> parameters) {
+        synchronized (lock) {
+            throwIfUnavailable();
+            int recordStart = pending.position();
+            reserve(RECORD_HEADER_SIZE);
+            pending.position(recordStart + RECORD_HEADER_SIZE);
+            putString(encodeCommandType(commandType));
+            putString(actor);
+            reserve(Integer.BYTES);
+            pending.putInt(parameters.size());
+            for (String parameter : parameters) {
+                putString(parameter);
+            }
+            int bodyLength = pending.position() - recordStart - RECORD_HEADER_SIZE;
+            checksum.reset();
+            checksum.update(pending.array(), recordStart + RECORD_HEADER_SIZE, bodyLength);
+            pending.putInt(recordStart, bodyLength);
+            pending.putInt(recordStart + Integer.BYTES, (int) checksum.getValue());
+
+            if (pendingRecords++ == 0) {
+                pendingSinceNanos = System.nanoTime();
+                lock.notifyAll();
+            } else if (pending.position() >= MAX_BATCH_BYTES) {
+                lock.notifyAll();
+            }
+            return ++lastSequence;
+        }
+    }
+
+    @Override
+    public long getLastSequence() {
+        synchronized (lock) {
+            return lastSequence;
+        }
+    }
+
+    @Override
+    public void awaitDurable(long sequence) {
+        synchronized (lock) {
+            while (durableSequence < sequence && failure == null) {
+                waitForChange(lock, 0);
+            }
+            throwIfFailed();
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public long getRecordCount() {
+        synchronized (lock) {
+            return lastSequence - openedSequence;
+        }
+    }
+
+    @Override
+    public long getSyncCount() {
+        synchronized (lock) {
+            return syncCount;
+        }
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        synchronized (lock) {
+            return maxBatchSize;
+        }
+    }
+
+    @Override
+    public long getRecordsPerSecond() {
+        long elapsedNanos = Math.max(1, System.nanoTime() - openedNanos);
+        return getRecordCount() * NANOS_PER_SECOND / elapsedNanos;
+    }
+
+    /**
+     * Forces the remaining records to the disk and closes the file.
+     */
+    @Override
+    public void close() {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            lock.notifyAll();
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } finally {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        synchronized (lock) {
+            throwIfFailed();
+        }
+    }
+
+    private void flushBatches() {
+        while (true) {
+            ByteBuffer batch;
+            int batchSize;
+            long batchSequence;
+            synchronized (lock) {
+                while (pendingRecords == 0 && !closed) {
+                    waitForChange(lock, 0);
+                }
+                if (pendingRecords == 0) {
+                    return;
+                }
+                // Give other commands the chance to join this batch.
+                long remainingNanos;
+                while (!closed && pending.position() < MAX_BATCH_BYTES
+                        && (remainingNanos = pendingSinceNanos + maxDelayNanos - System.nanoTime()) > 0) {
+                    waitForChange(lock, remainingNanos);
+                }
+                batch = pending;
+                pending = flushing;
+                flushing = batch;
+                batchSize = pendingRecords;
+                batchSequence = lastSequence;
+                pendingRecords = 0;
+            }
+
+            try {
+                batch.flip();
+                while (batch.hasRemaining()) {
+                    channel.write(batch);
+                }
+                channel.force(false);
+                batch.clear();
+            } catch (IOException e) {
+                synchronized (lock) {
+                    failure = e;
+                    lock.notifyAll();
+                }
+                return;
+            }
+
+            synchronized (lock) {
+                durableSequence = batchSequence;
+                syncCount++;
+                maxBatchSize = Math.max(maxBatchSize, batchSize);
+                lock.notifyAll();
+            }
+        }
+    }
+
+    private void putString(String value) {
+        if (value == null) {
+            reserve(Integer.BYTES);
+            pending.putInt(NO_ACTOR);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        reserve(Integer.BYTES + bytes.length);
+        pending.putInt(bytes.length);
+        pending.put(bytes);
+    }
+
+    private void reserve(int bytes) {
+        if (pending.remaining() >= bytes) {
+            return;
+        }
+        ByteBuffer larger = ByteBuffer.allocate(Math.max(pending.capacity() * 2, pending.position() + bytes));
+        pending.flip();
+        larger.put(pending);
+        pending = larger;
+    }
+
+    private void writeHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE);
+        header.putInt(MAGIC).putInt(VERSION).flip();
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+        channel.force(false);
+    }
+
+    private void replay(Path file, VehicleDealershipRepository repository, long snapshotSequence) throws IOException {
+        JournalReader reader = new JournalReader(channel);
+        if (!reader.ensureReadable(FILE_HEADER_SIZE) || reader.buffer.getInt() != MAGIC) {
+            throw new IOException(String.format(NOT_A_JOURNAL, file));
+        }
+        int version = reader.buffer.getInt();
+        if (version != VERSION) {
+            throw new IOException(String.format(UNSUPPORTED_VERSION, version));
+        }
+
+        CommandFactory commandFactory = new CommandFactoryImpl(repository);
+        long validEnd = FILE_HEADER_SIZE;
+        List<String> parameters = new ArrayList<>();
+        while (reader.ensureReadable(RECORD_HEADER_SIZE)) {
+            int bodyLength = reader.buffer.getInt();
+            int expectedChecksum = reader.buffer.getInt();
+            if (bodyLength < 0 || bodyLength > channel.size() || !reader.ensureReadable(bodyLength)) {
+                break;
+            }
+            ByteBuffer body = reader.buffer.slice().limit(bodyLength);
+            checksum.reset();
+            checksum.update(body.duplicate());
+            if ((int) checksum.getValue() != expectedChecksum) {
+                break;
+            }
+            reader.buffer.position(reader.buffer.position() + bodyLength);
+            validEnd += RECORD_HEADER_SIZE + bodyLength;
+            if (++lastSequence <= snapshotSequence) {
+                continue;
+            }
+
+            CommandType commandType = decodeCommandType(getString(body));
+            String actor = getString(body);
+            parameters.clear();
+            for (int count = body.getInt(); count > 0; count--) {
+                parameters.add(getString(body));
+            }
+            replayRecord(commandFactory, repository, commandType, actor, parameters);
+        }
+        if (repository.hasLoggedInUser()) {
+            repository.logout();
+        }
+        durableSequence = lastSequence;
+
+        // Drop a record cut short by a crash, so new records follow the last complete one.
+        channel.truncate(validEnd);
+        channel.position(validEnd);
+    }
+
+    private void replayRecord(CommandFactory commandFactory, VehicleDealershipRepository repository,
+                              CommandType commandType, String actor, List<String> parameters) throws IOException {
+        Command command = commandFactory.findCommand(commandType.name());
+        try {
+            if (actor == null) {
+                repository.logout();
+            } else {
+                repository.login(repository.findUserByUsername(actor));
+            }
+            command.execute(parameters);
+            replayedCount++;
+        } catch (SnapshotChangedException e) {
+            // The later records may depend on what was loaded, so none of them can be replayed reliably.
+            throw new IOException(e.getMessage(), e);
+        } catch (RuntimeException e) {
+            skippedCount++;
+        }
+    }
+
+    static String encodeCommandType(CommandType commandType) {
+        return commandType.name();
+    }
+
+    static CommandType decodeCommandType(String code) throws IOException {
+        for (CommandType commandType : CommandType.values()) {
+            if (commandType.name().equals(code)) {
+                return commandType;
+            }
+        }
+        throw new IOException(String.format(UNKNOWN_COMMAND_TYPE, code));
+    }
+
+    private static String getString(ByteBuffer body) {
+        int length = body.getInt();
+        if (length == NO_ACTOR) {
+            return null;
+        }
+        String value = new String(body.array(), body.arrayOffset() + body.position(), length, StandardCharsets.UTF_8);
+        body.position(body.position() + length);
+        return value;
+    }
+
+    private void throwIfUnavailable() {
+        if (closed) {
+            throw new IllegalStateException(JOURNAL_CLOSED);
+        }
+        throwIfFailed();
+    }
+
+    private void throwIfFailed() {
+        if (failure != null) {
+            throw new UncheckedIOException(failure);
+        }
+    }
+
+    private static void waitForChange(Object monitor, long timeoutNanos) {
+        try {
+            if (timeoutNanos > 0) {
+                TimeUnit.NANOSECONDS.timedWait(monitor, timeoutNanos);
+            } else {
+                monitor.wait();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class JournalReader {
+
+        private final FileChannel channel;
+        private ByteBuffer buffer;
+
+        private JournalReader(FileChannel channel) {
+            this.channel = channel;
+            this.buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+            this.buffer.flip();
+        }
+
+        /**
+         * Reads ahead until the given number of bytes is buffered. Returns false at the end of the file.
+         */
+        private boolean ensureReadable(int bytes) throws IOException {
+            if (buffer.remaining() >= bytes) {
+                return true;
+            }
+            if (buffer.capacity() < bytes) {
+                ByteBuffer larger = ByteBuffer.allocate(bytes);
+                larger.put(buffer);
+                buffer = larger;
+            } else {
+                buffer.compact();
+            }
+            while (buffer.position() < bytes) {
+                if (channel.read(buffer) < 0) {
+                    buffer.flip();
+                    return false;
+                }
+            }
+            buffer.flip();
+            return true;
+        }
+    }
+}
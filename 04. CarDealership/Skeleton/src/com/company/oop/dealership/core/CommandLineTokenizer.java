@@ -0,0 +1,125 @@
+package com.company.oop.dealership.core;
+
+import com.company.oop.dealership.exceptions.InvalidUserInputException;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Splits an input line into a command name and its parameters in a single pass.
+ * Parameters are separated by spaces, and the text between "{{" and "}}" is read as one parameter,
+ * which always comes first in the parameter list, e.g. for "AddComment {{Nice car}} pesho 1"
+ * the command name is "AddComment" and the parameters are ["Nice car", "pesho", "1"].
+ * <p>
+ * The tokenizer and the parameter list it hands out are reused for every line, so the only
+ * allocations per line are the command name and parameter substrings.
+ * The list returned by {@link #getParameters()} is only valid until the next call to {@link #tokenize(String)}.
+ */
+public class CommandLineTokenizer {
+
+    private static final char MAIN_SPLIT_SYMBOL = ' ';
+    private static final String COMMENT_OPEN_SYMBOL = "{{";
+    private static final String COMMENT_CLOSE_SYMBOL = "}}";
+    private static final String COMMENT_NOT_CLOSED = "Comment is not closed. Expected \"}}\".";
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final Parameters parameters = new Parameters();
+    private String commandName = "";
+
+    /**
+     * Tokenizes a complete input line, replacing the result of the previous call.
+     *
+     * @param inputLine A complete input line
+     */
+    public void tokenize(String inputLine) {
+        parameters.reset();
+        int length = inputLine.length();
+        int nameEnd = inputLine.indexOf(MAIN_SPLIT_SYMBOL);
+        if (nameEnd < 0) {
+            nameEnd = length;
+        }
+        commandName = inputLine.substring(0, nameEnd);
+
+        int position = nameEnd + 1;
+        while (position < length) {
+            char current = inputLine.charAt(position);
+            if (current == MAIN_SPLIT_SYMBOL) {
+                position++;
+            } else if (inputLine.startsWith(COMMENT_OPEN_SYMBOL, position) && !parameters.hasComment) {
+                position = readComment(inputLine, position);
+            } else {
+                int tokenEnd = position + 1;
+                while (tokenEnd < length && inputLine.charAt(tokenEnd) != MAIN_SPLIT_SYMBOL
+                        && !(inputLine.startsWith(COMMENT_OPEN_SYMBOL, tokenEnd) && !parameters.hasComment)) {
+                    tokenEnd++;
+                }
+                parameters.append(inputLine.substring(position, tokenEnd));
+                position = tokenEnd;
+            }
+        }
+    }
+
+    public String getCommandName() {
+        return commandName;
+    }
+
+    /**
+     * @return A read-only view of the parameters of the last tokenized line
+     */
+    public List<String> getParameters() {
+        return parameters;
+    }
+
+    private int readComment(String inputLine, int openIndex) {
+        int contentStart = openIndex + COMMENT_OPEN_SYMBOL.length();
+        int closeIndex = inputLine.indexOf(COMMENT_CLOSE_SYMBOL, contentStart);
+        if (closeIndex < 0) {
+            throw new InvalidUserInputException(COMMENT_NOT_CLOSED);
+        }
+        parameters.addComment(inputLine.substring(contentStart, closeIndex));
+        // Everything up to the last closing symbol belongs to the comment, as in "{{a}}b}}".
+        return inputLine.lastIndexOf(COMMENT_CLOSE_SYMBOL) + COMMENT_CLOSE_SYMBOL.length();
+    }
+
+    private static class Parameters extends AbstractList<String> implements RandomAccess {
+
+        private String[] values = new String[INITIAL_CAPACITY];
+        private int size;
+        private boolean hasComment;
+
+        @Override
+        public String get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return values[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        private void reset() {
+            Arrays.fill(values, 0, size, null);
+            size = 0;
+            hasComment = false;
+        }
+
+        private void append(String value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private void addComment(String comment) {
+            append(comment);
+            System.arraycopy(values, 0, values, 1, size - 1);
+            values[0] = comment;
+            hasComment = true;
+        }
+    }
+}
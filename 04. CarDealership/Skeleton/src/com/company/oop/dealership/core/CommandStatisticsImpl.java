@@ -0,0 +1,52 @@
+package com.company.oop.dealership.core;
+
+import com.company.oop.dealership.commands.enums.CommandType;
+import com.company.oop.dealership.core.contracts.CommandStatistics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class CommandStatisticsImpl implements CommandStatistics {
+
+    private final LatencyHistogram[] latencies;
+    private final LongAdder[] successes;
+    private final LongAdder[] failures;
+
+    public CommandStatisticsImpl() {
+        int commandTypeCount = CommandType.values().length;
+        this.latencies = new LatencyHistogram[commandTypeCount];
+        this.successes = new LongAdder[commandTypeCount];
+        this.failures = new LongAdder[commandTypeCount];
+        for (int i = 0; i < commandTypeCount; i++) {
+            latencies[i] = new LatencyHistogram();
+            successes[i] = new LongAdder();
+            failures[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public void record(CommandType commandType, long elapsedNanos, boolean succeeded) {
+        int index = commandType.ordinal();
+        latencies[index].record(elapsedNanos);
+        (succeeded ? successes : failures)[index].increment();
+    }
+
+    @Override
+    public long getSuccessCount(CommandType commandType) {
+        return successes[commandType.ordinal()].sum();
+    }
+
+    @Override
+    public long getFailureCount(CommandType commandType) {
+        return failures[commandType.ordinal()].sum();
+    }
+
+    @Override
+    public long getLatencyPercentile(CommandType commandType, double percentile) {
+        return latencies[commandType.ordinal()].getPercentile(percentile);
+    }
+
+    @Override
+    public long getMaxLatency(CommandType commandType) {
+        return latencies[commandType.ordinal()].getMax();
+    }
+}
@@ -0,0 +1,94 @@
+package com.company.oop.dealership.core;
+
+import com.company.oop.dealership.models.contracts.Comment;
+import com.company.oop.dealership.models.contracts.Vehicle;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Index of all comments in the dealership by id and by author, each pointing to the commented vehicle.
+ * Finding a comment by id costs O(1) and the comments of an author cost only as much as there are of them.
+ * Authors are matched ignoring case. Comments created outside the repository have no id and are indexed
+ * only by author. Ids are never given twice.
+ */
+public class CommentIndex {
+
+    private final Map<Long, Map.Entry<Comment, Vehicle>> commentsById;
+    private final Map<String, Map<Comment, Vehicle>> commentsByAuthor;
+    private long maxId;
+
+    public CommentIndex() {
+        this.commentsById = new HashMap<>();
+        this.commentsByAuthor = new HashMap<>();
+    }
+
+    /**
+     * Returns the biggest id ever indexed, so new comments can be given ids after it.
+     */
+    public long getMaxId() {
+        return maxId;
+    }
+
+    /**
+     * Indexes the comment under its id and author. A comment with an id taken by another comment
+     * is given the next one first.
+     */
+    public void add(Vehicle vehicle, Comment comment) {
+        if (comment.getId() != Comment.NO_ID) {
+            Map.Entry<Comment, Vehicle> existing = commentsById.get(comment.getId());
+            if (existing != null && existing.getKey() != comment) {
+                comment.setId(maxId + 1);
+            }
+            commentsById.put(comment.getId(), new AbstractMap.SimpleImmutableEntry<>(comment, vehicle));
+            maxId = Math.max(maxId, comment.getId());
+        }
+        commentsByAuthor.computeIfAbsent(toKey(comment.getAuthor()), author -> new LinkedHashMap<>()).put(comment, vehicle);
+    }
+
+    public void remove(Comment comment) {
+        if (comment.getId() != Comment.NO_ID) {
+            commentsById.remove(comment.getId());
+        }
+        String author = toKey(comment.getAuthor());
+        Map<Comment, Vehicle> comments = commentsByAuthor.get(author);
+        if (comments != null && comments.remove(comment) != null && comments.isEmpty()) {
+            commentsByAuthor.remove(author);
+        }
+    }
+
+    public void addAll(Vehicle vehicle) {
+        for (Comment comment : vehicle.getComments()) {
+            add(vehicle, comment);
+        }
+    }
+
+    public void removeAll(Vehicle vehicle) {
+        for (Comment comment : vehicle.getComments()) {
+            remove(comment);
+        }
+    }
+
+    /**
+     * Returns the comment with the given id and the commented vehicle, or null when there is no such comment.
+     */
+    public Map.Entry<Comment, Vehicle> findById(long id) {
+        return commentsById.get(id);
+    }
+
+    /**
+     * Returns the comments of the author with the commented vehicles, in the order they were added.
+     */
+    public Map<Comment, Vehicle> findByAuthor(String author) {
+        Map<Comment, Vehicle> comments = commentsByAuthor.get(toKey(author));
+        return comments == null ? Collections.emptyMap() : Collections.unmodifiableMap(comments);
+    }
+
+    private static String toKey(String author) {
+        return author.toLowerCase(Locale.ROOT);
+    }
+}
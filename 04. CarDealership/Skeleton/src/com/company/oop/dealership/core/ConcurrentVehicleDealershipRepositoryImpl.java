@@ -0,0 +1,340 @@
+package com.company.oop.dealership.core;
+
+import com.company.oop.dealership.core.contracts.CommandJournal;
+import com.company.oop.dealership.core.contracts.CommandStatistics;
+import com.company.oop.dealership.core.contracts.Session;
+import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
+import com.company.oop.dealership.exceptions.InvalidUserInputException;
+import com.company.oop.dealership.models.*;
+import com.company.oop.dealership.models.contracts.*;
+import com.company.oop.dealership.models.enums.UserRole;
+import com.company.oop.dealership.models.enums.VehicleGrouping;
+import com.company.oop.dealership.models.enums.VehicleType;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Repository that can be used from many threads at once.
+ * <ul>
+ *     <li>Users are registered and looked up in a {@link ConcurrentHashMap}, so lookups take no locks
+ *     and registrations only lock one bin of the map.</li>
+ *     <li>Vehicles and comments are changed under the lock of their user and vehicle (see {@link UserImpl}
+ *     and {@link VehicleBase}), which also makes the vehicle limit of normal users atomic.</li>
+ *     <li>Every vehicle and comment index is guarded by a read-write lock of its own, so adding a comment
+ *     does not wait for a price search, and changes to different indexes do not wait for each other.
+ *     Searches copy their result under the read lock of their index, so they return a consistent snapshot
+ *     of that index. A vehicle being added or removed shows up in the indexes one after another.</li>
+ * </ul>
+ * Each thread should log in through its own {@link SessionVehicleDealershipRepositoryImpl}.
+ */
+public class ConcurrentVehicleDealershipRepositoryImpl implements VehicleDealershipRepository {
+
+    private final static String NO_SUCH_USER = "There is no user with username %s!";
+    private final static String USER_ALREADY_EXIST = "User %s already exist. Choose a different username!";
+    private final static String NO_SUCH_VEHICLE = "There is no vehicle with id %d!";
+    private final static String NO_SUCH_COMMENT = "There is no comment with id %d!";
+    private final static String MAKES_POOL = "Makes";
+    private final static String MODELS_POOL = "Models";
+    private final static String CATEGORIES_POOL = "Categories";
+
+    private final Map<String, User> usersByUsername;
+    private final Queue<User> users;
+    private final VehicleSearchIndex vehicleSearchIndex;
+    private final VehiclePriceIndex vehiclePriceIndex;
+    private final VehicleIdIndex vehicleIdIndex;
+    private final CommentIndex commentIndex;
+    private final ReadWriteLock vehicleSearchIndexLock;
+    private final ReadWriteLock vehiclePriceIndexLock;
+    private final ReadWriteLock vehicleIdIndexLock;
+    private final ReadWriteLock commentIndexLock;
+    private final InventoryListener inventoryIndexer;
+    private final StringPool makes;
+    private final StringPool models;
+    private final StringPool categories;
+    private final Session session;
+    private final CommandStatistics commandStatistics;
+    private final AtomicLong lastCommentId;
+    private volatile CommandJournal commandJournal;
+
+    public ConcurrentVehicleDealershipRepositoryImpl() {
+        this.usersByUsername = new ConcurrentHashMap<>();
+        this.users = new ConcurrentLinkedQueue<>();
+        this.vehicleSearchIndex = new VehicleSearchIndex();
+        this.vehiclePriceIndex = new VehiclePriceIndex();
+        this.vehicleIdIndex = new VehicleIdIndex();
+        this.commentIndex = new CommentIndex();
+        this.lastCommentId = new AtomicLong();
+        this.vehicleSearchIndexLock = new ReentrantReadWriteLock();
+        this.vehiclePriceIndexLock = new ReentrantReadWriteLock();
+        this.vehicleIdIndexLock = new ReentrantReadWriteLock();
+        this.commentIndexLock = new ReentrantReadWriteLock();
+        this.inventoryIndexer = new InventoryIndexer();
+        this.makes = new StringPool(MAKES_POOL);
+        this.models = new StringPool(MODELS_POOL);
+        this.categories = new StringPool(CATEGORIES_POOL);
+        this.session = new SessionImpl();
+        this.commandStatistics = new CommandStatisticsImpl();
+        this.commandJournal = CommandJournal.DISABLED;
+    }
+
+    /**
+     * Returns a snapshot of the users in registration order.
+     */
+    @Override
+    public List<User> getUsers() {
+        return List.copyOf(users);
+    }
+
+    @Override
+    public void addUser(User userToAdd) {
+        User existingUser = usersByUsername.putIfAbsent(toKey(userToAdd.getUsername()), userToAdd);
+        if (existingUser != null) {
+            throw new InvalidUserInputException(String.format(USER_ALREADY_EXIST, userToAdd.getUsername()));
+        }
+        users.add(userToAdd);
+        // Locked, so the user cannot add a vehicle between indexing the existing ones and registering the listener.
+        synchronized (userToAdd) {
+            for (int i = 0; i < userToAdd.getVehicleCount(); i++) {
+                Vehicle vehicle = userToAdd.getVehicle(i);
+                // The vehicle is locked before the indexes, like when its user adds it later.
+                synchronized (vehicle) {
+                    inventoryIndexer.vehicleAdded(userToAdd, vehicle);
+                }
+            }
+            userToAdd.setInventoryListener(inventoryIndexer);
+        }
+    }
+
+    @Override
+    public User findUserByUsername(String username) {
+        User user = usersByUsername.get(toKey(username));
+        if (user == null) {
+            throw new InvalidUserInputException(String.format(NO_SUCH_USER, username));
+        }
+        return user;
+    }
+
+    @Override
+    public Map<Vehicle, User> findVehicles(VehicleType type, String make, String model) {
+        return read(vehicleSearchIndexLock, () -> new LinkedHashMap<>(vehicleSearchIndex.find(type, make, model)));
+    }
+
+    @Override
+    public Stream<Map.Entry<Vehicle, User>> findVehiclesInPriceRange(double min, double max) {
+        List<Map.Entry<Vehicle, User>> vehicles = read(vehiclePriceIndexLock,
+                () -> vehiclePriceIndex.findInRange(min, max).collect(Collectors.toList()));
+        return vehicles.stream();
+    }
+
+    @Override
+    public List<PriceSummary> summarizePrices(VehicleGrouping grouping) {
+        return read(vehiclePriceIndexLock, () -> vehiclePriceIndex.summarizePrices(grouping));
+    }
+
+    @Override
+    public Map.Entry<Vehicle, User> findVehicleById(long id) {
+        Map.Entry<Vehicle, User> vehicle = read(vehicleIdIndexLock, () -> vehicleIdIndex.findById(id));
+        if (vehicle == null) {
+            throw new InvalidUserInputException(String.format(NO_SUCH_VEHICLE, id));
+        }
+        return vehicle;
+    }
+
+    @Override
+    public Map.Entry<Comment, Vehicle> findCommentById(long id) {
+        Map.Entry<Comment, Vehicle> comment = read(commentIndexLock, () -> commentIndex.findById(id));
+        if (comment == null) {
+            throw new InvalidUserInputException(String.format(NO_SUCH_COMMENT, id));
+        }
+        return comment;
+    }
+
+    @Override
+    public Map<Comment, Vehicle> findCommentsByAuthor(String author) {
+        return read(commentIndexLock, () -> new LinkedHashMap<>(commentIndex.findByAuthor(author)));
+    }
+
+    @Override
+    public long getPriceIndexBytes() {
+        return read(vehiclePriceIndexLock, vehiclePriceIndex::getEstimatedBytes);
+    }
+
+    @Override
+    public List<StringPool> getStringPools() {
+        return List.of(makes, models, categories);
+    }
+
+    @Override
+    public CommandStatistics getCommandStatistics() {
+        return commandStatistics;
+    }
+
+    @Override
+    public CommandJournal getCommandJournal() {
+        return commandJournal;
+    }
+
+    @Override
+    public void setCommandJournal(CommandJournal commandJournal) {
+        this.commandJournal = commandJournal;
+    }
+
+    @Override
+    public User getLoggedInUser() {
+        return session.getLoggedInUser();
+    }
+
+    @Override
+    public boolean hasLoggedInUser() {
+        return session.hasLoggedInUser();
+    }
+
+    @Override
+    public void login(User user) {
+        session.login(user);
+    }
+
+    @Override
+    public void logout() {
+        session.logout();
+    }
+
+    @Override
+    public Car createCar(String make, String model, double price, int seats) {
+        return new CarImpl(makes.intern(make), models.intern(model), price, seats);
+    }
+
+    @Override
+    public Motorcycle createMotorcycle(String make, String model, double price, String category) {
+        return new MotorcycleImpl(makes.intern(make), models.intern(model), price, categories.intern(category));
+    }
+
+    @Override
+    public Truck createTruck(String make, String model, double price, int weightCapacity) {
+        return new TruckImpl(makes.intern(make), models.intern(model), price, weightCapacity);
+    }
+
+    @Override
+    public User createUser(String username, String firstName, String lastName, String password, UserRole userRole) {
+        return new UserImpl(username, firstName, lastName, password, userRole);
+    }
+
+    @Override
+    public Comment createComment(String content, String author) {
+        long maxIndexedId = read(commentIndexLock, commentIndex::getMaxId);
+        return new CommentImpl(lastCommentId.updateAndGet(last -> Math.max(last, maxIndexedId) + 1), content, author);
+    }
+
+    @Override
+    public long getLastVehicleId() {
+        return read(vehicleIdIndexLock, vehicleIdIndex::getMaxId);
+    }
+
+    @Override
+    public void reserveVehicleIds(long lastId) {
+        write(vehicleIdIndexLock, () -> vehicleIdIndex.reserveIds(lastId));
+    }
+
+    @Override
+    public long getLastCommentId() {
+        return Math.max(lastCommentId.get(), read(commentIndexLock, commentIndex::getMaxId));
+    }
+
+    @Override
+    public void reserveCommentIds(long lastId) {
+        lastCommentId.accumulateAndGet(lastId, Math::max);
+    }
+
+    private static String toKey(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    private static <T> T read(ReadWriteLock lock, Supplier<T> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void write(ReadWriteLock lock, Runnable writer) {
+        lock.writeLock().lock();
+        try {
+            writer.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private class InventoryIndexer implements InventoryListener {
+
+        @Override
+        public void vehicleAdded(User owner, Vehicle vehicle) {
+            // The id comes first, since it may be reassigned when it clashes.
+            write(vehicleIdIndexLock, () -> vehicleIdIndex.add(owner, vehicle));
+            write(vehicleSearchIndexLock, () -> vehicleSearchIndex.add(owner, vehicle));
+            write(vehiclePriceIndexLock, () -> vehiclePriceIndex.add(owner, vehicle));
+            write(commentIndexLock, () -> commentIndex.addAll(vehicle));
+            retainStrings(vehicle);
+        }
+
+        @Override
+        public void vehicleRemoved(User owner, Vehicle vehicle) {
+            write(vehicleIdIndexLock, () -> vehicleIdIndex.remove(vehicle));
+            write(vehicleSearchIndexLock, () -> vehicleSearchIndex.remove(vehicle));
+            write(vehiclePriceIndexLock, () -> vehiclePriceIndex.remove(vehicle));
+            write(commentIndexLock, () -> commentIndex.removeAll(vehicle));
+            releaseStrings(vehicle);
+        }
+
+        /**
+         * Called under the lock of the vehicle, so it cannot be removed meanwhile. A comment added
+         * to a vehicle that was already removed is not indexed.
+         */
+        @Override
+        public void commentAdded(Vehicle vehicle, Comment comment) {
+            if (read(vehicleIdIndexLock, () -> isIndexed(vehicle))) {
+                write(commentIndexLock, () -> commentIndex.add(vehicle, comment));
+            }
+        }
+
+        @Override
+        public void commentRemoved(Vehicle vehicle, Comment comment) {
+            write(commentIndexLock, () -> commentIndex.remove(comment));
+        }
+
+        private boolean isIndexed(Vehicle vehicle) {
+            Map.Entry<Vehicle, User> indexed = vehicleIdIndex.findById(vehicle.getId());
+            return indexed != null && indexed.getKey() == vehicle;
+        }
+
+        private void retainStrings(Vehicle vehicle) {
+            makes.retain(vehicle.getMake());
+            models.retain(vehicle.getModel());
+            if (vehicle.getType() == VehicleType.MOTORCYCLE) {
+                categories.retain(((Motorcycle) vehicle).getCategory());
+            }
+        }
+
+        private void releaseStrings(Vehicle vehicle) {
+            makes.release(vehicle.getMake());
+            models.release(vehicle.getModel());
+            if (vehicle.getType() == VehicleType.MOTORCYCLE) {
+                categories.release(((Motorcycle) vehicle).getCategory());
+            }
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.company.oop.dealership.core;
+
+import com.company.oop.dealership.commands.contracts.Command;
+import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Engine for replaying command scripts in two stages, each running on its own thread:
+ * <ol>
+ *     <li>reading and tokenizing the input lines;</li>
+ *     <li>executing the commands and writing their reports to the output - the only stage that touches
+ *     the repository.</li>
+ * </ol>
+ * The stages are joined by a bounded queue and each stage handles the lines one by one,
+ * so the results are printed in the same order as the input lines.
+ * <p>
+ * Reports are formatted by the execution stage, since the models are not safe to read while the next
+ * commands change them. Each command streams its report straight into the buffered output, so there is
+ * no finished text left for a separate writing stage to do, and no copy of it is handed over.
+ */
+public class PipelinedVehicleDealershipEngineImpl extends VehicleDealershipEngineImpl {
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    private static final Line END_OF_INPUT = new Line(null, null, null);
+
+    private final BufferedReader reader;
+    private final BufferedWriter writer;
+    private final BlockingQueue<Line> parsedLines;
+    private final AtomicReference<RuntimeException> stageFailure;
+
+    public PipelinedVehicleDealershipEngineImpl() {
+        this(new InputStreamReader(System.in), new OutputStreamWriter(System.out));
+    }
+
+    public PipelinedVehicleDealershipEngineImpl(Reader input, Writer output) {
+        this(input, output, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public PipelinedVehicleDealershipEngineImpl(Reader input, Writer output, int queueCapacity) {
+        this(input, output, queueCapacity, new VehicleDealershipRepositoryImpl());
+    }
+
+    public PipelinedVehicleDealershipEngineImpl(Reader input, Writer output, int queueCapacity,
+                                                VehicleDealershipRepository vehicleDealershipRepository) {
+        super(vehicleDealershipRepository);
+        this.reader = new BufferedReader(input, BatchVehicleDealershipEngineImpl.INPUT_BUFFER_SIZE);
+        this.writer = new BufferedWriter(output, BatchVehicleDealershipEngineImpl.OUTPUT_BUFFER_SIZE);
+        this.parsedLines = new ArrayBlockingQueue<>(queueCapacity);
+        this.stageFailure = new AtomicReference<>();
+    }
+
+    @Override
+    public void start() {
+        Thread parseStage = new Thread(this::parseLines, "dealership-parse");
+        parseStage.start();
+        executeLines();
+        try {
+            parseStage.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        RuntimeException failure = stageFailure.get();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void parseLines() {
+        CommandLineTokenizer tokenizer = new CommandLineTokenizer();
+        try {
+            String inputLine;
+            while ((inputLine = reader.readLine()) != null && stageFailure.get() == null) {
+                if (inputLine.isBlank()) {
+                    put(parsedLines, new Line(null, null, EMPTY_COMMAND_ERROR));
+                    continue;
+                }
+                if (inputLine.equalsIgnoreCase(TERMINATION_COMMAND)) {
+                    break;
+                }
+                put(parsedLines, tokenize(tokenizer, inputLine));
+            }
+        } catch (IOException e) {
+            stageFailure.compareAndSet(null, new UncheckedIOException(e));
+        } catch (RuntimeException e) {
+            stageFailure.compareAndSet(null, e);
+        } finally {
+            put(parsedLines, END_OF_INPUT);
+        }
+    }
+
+    /**
+     * When writing fails, the remaining lines are still taken from the queue,
+     * so the parsing stage is never left blocked on a full queue.
+     */
+    private void executeLines() {
+        Line line = null;
+        try {
+            while ((line = take(parsedLines)) != END_OF_INPUT) {
+                if (line.error == null) {
+                    execute(line);
+                } else {
+                    writer.write(line.error);
+                }
+                writer.newLine();
+                writer.write(REPORT_SEPARATOR);
+                writer.newLine();
+            }
+            writer.flush();
+        } catch (IOException e) {
+            stageFailure.compareAndSet(null, new UncheckedIOException(e));
+        } catch (RuntimeException e) {
+            stageFailure.compareAndSet(null, e);
+        }
+        if (line != END_OF_INPUT) {
+            drain(parsedLines);
+        }
+    }
+
+    private static Line tokenize(CommandLineTokenizer tokenizer, String inputLine) {
+        try {
+            tokenizer.tokenize(inputLine);
+            // The tokenizer reuses its parameter list, so the line keeps its own copy.
+            return new Line(tokenizer.getCommandName(), List.copyOf(tokenizer.getParameters()), null);
+        } catch (Exception ex) {
+            return new Line(null, null, getErrorMessage(ex));
+        }
+    }
+
+    /**
+     * Like the batch engine, a command failing halfway keeps the text it already wrote, followed by the error.
+     * A failing output is not a failure of the command and ends the stage.
+     */
+    private void execute(Line line) throws IOException {
+        Command command = getCommandFactory().findCommand(line.commandName);
+        if (command == null) {
+            writer.write(String.format(UNKNOWN_COMMAND_ERROR, line.commandName));
+            return;
+        }
+        try {
+            command.execute(line.parameters, writer);
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception ex) {
+            writer.write(getErrorMessage(ex));
+        }
+    }
+
+    private static void drain(BlockingQueue<Line> queue) {
+        Line line;
+        do {
+            line = take(queue);
+        } while (line != END_OF_INPUT);
+    }
+
+    private static void put(BlockingQueue<Line> queue, Line line) {
+        try {
+            queue.put(line);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Line take(BlockingQueue<Line> queue) {
+        try {
+            return queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class Line {
+
+        private final String commandName;
+        private final List<String> parameters;
+        private final String error;
+
+        private Line(String commandName, List<String> parameters, String error) {
+            this.commandName = commandName;
+            this.parameters = parameters;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.company.oop.dealership.core;
+
+/**
+ * Count, total, average, cheapest and most expensive price of a group of vehicles.
+ */
+public class PriceSummary {
+
+    private final String group;
+    private final long count;
+    private final double sum;
+    private final double min;
+    private final double max;
+
+    public PriceSummary(String group, long count, double sum, double min, double max) {
+        this.group = group;
+        this.count = count;
+        this.sum = sum;
+        this.min = min;
+        this.max = max;
+    }
+
+    public String getGroup() {
+        return group;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getSum() {
+        return sum;
+    }
+
+    public double getAverage() {
+        return sum / count;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+}
@@ -0,0 +1,129 @@
+package com.company.oop.dealership.core;
+
+import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Engine for replaying archived command logs, including ones bigger than the heap.
+ * The script file is memory-mapped window by window and the line boundaries are found directly
+ * in the mapped bytes. Only the bytes of the current line are copied out and decoded.
+ * Progress and throughput are reported to a separate stream, so the command output is the same
+ * as in the other engines.
+ */
+public class ReplayVehicleDealershipEngineImpl extends BatchVehicleDealershipEngineImpl {
+
+    public static final long DEFAULT_WINDOW_SIZE = 1L << 30;
+    public static final long PROGRESS_INTERVAL = 1_000_000;
+
+    private static final String LINE_TOO_LONG = "Line starting at byte %d is longer than the mapping window.";
+    private static final String PROGRESS_REPORT = "Replayed %d commands (%d%%), %d commands/sec";
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final int INITIAL_LINE_BUFFER_SIZE = 256;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final Path scriptFile;
+    private final PrintStream progress;
+    private final long windowSize;
+    private final Charset charset;
+    private byte[] lineBuffer;
+    private long commandsReplayed;
+    private long startNanos;
+
+    public ReplayVehicleDealershipEngineImpl(Path scriptFile, Writer output, PrintStream progress) {
+        this(scriptFile, output, progress, DEFAULT_WINDOW_SIZE);
+    }
+
+    public ReplayVehicleDealershipEngineImpl(Path scriptFile, Writer output, PrintStream progress, long windowSize) {
+        this(scriptFile, output, progress, windowSize, new VehicleDealershipRepositoryImpl());
+    }
+
+    public ReplayVehicleDealershipEngineImpl(Path scriptFile, Writer output, PrintStream progress, long windowSize,
+                                             VehicleDealershipRepository vehicleDealershipRepository) {
+        super(Reader.nullReader(), output, OUTPUT_BUFFER_SIZE, vehicleDealershipRepository);
+        this.scriptFile = scriptFile;
+        this.progress = progress;
+        this.windowSize = windowSize;
+        this.charset = StandardCharsets.UTF_8;
+        this.lineBuffer = new byte[INITIAL_LINE_BUFFER_SIZE];
+    }
+
+    @Override
+    public void start() {
+        startNanos = System.nanoTime();
+        commandsReplayed = 0;
+        try (FileChannel channel = FileChannel.open(scriptFile, StandardOpenOption.READ)) {
+            replay(channel);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            flushOutput();
+        }
+        reportProgress(100);
+    }
+
+    private void replay(FileChannel channel) throws IOException {
+        long fileSize = channel.size();
+        long windowStart = 0;
+        while (windowStart < fileSize) {
+            long mappedSize = Math.min(windowSize, fileSize - windowStart);
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, mappedSize);
+            int limit = (int) mappedSize;
+            int lineStart = 0;
+            for (int i = 0; i < limit; i++) {
+                if (window.get(i) == LINE_FEED) {
+                    if (!replayLine(window, lineStart, i)) {
+                        return;
+                    }
+                    lineStart = i + 1;
+                    if (commandsReplayed % PROGRESS_INTERVAL == 0) {
+                        reportProgress((windowStart + i) * 100 / fileSize);
+                    }
+                }
+            }
+            if (windowStart + mappedSize == fileSize) {
+                if (lineStart < limit) {
+                    replayLine(window, lineStart, limit);
+                }
+                return;
+            }
+            if (lineStart == 0) {
+                throw new IllegalStateException(String.format(LINE_TOO_LONG, windowStart));
+            }
+            // The last line of the window is incomplete, so the next window starts with it.
+            windowStart += lineStart;
+        }
+    }
+
+    private boolean replayLine(MappedByteBuffer window, int start, int end) {
+        if (end > start && window.get(end - 1) == CARRIAGE_RETURN) {
+            end--;
+        }
+        int length = end - start;
+        if (length > lineBuffer.length) {
+            lineBuffer = new byte[Math.max(length, lineBuffer.length * 2)];
+        }
+        window.get(start, lineBuffer, 0, length);
+        commandsReplayed++;
+        return processLine(new String(lineBuffer, 0, length, charset));
+    }
+
+    private void reportProgress(long percent) {
+        long elapsedNanos = Math.max(1, System.nanoTime() - startNanos);
+        progress.println(String.format(PROGRESS_REPORT,
+                commandsReplayed,
+                percent,
+                commandsReplayed * NANOS_PER_SECOND / elapsedNanos));
+    }
+}
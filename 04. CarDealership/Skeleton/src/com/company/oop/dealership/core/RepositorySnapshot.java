@@ -0,0 +1,442 @@
+package com.company.oop.dealership.core;
+
+import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
+import com.company.oop.dealership.exceptions.InvalidUserInputException;
+import com.company.oop.dealership.exceptions.SnapshotChangedException;
+import com.company.oop.dealership.models.CommentImpl;
+import com.company.oop.dealership.models.contracts.*;
+import com.company.oop.dealership.models.enums.UserRole;
+import com.company.oop.dealership.models.enums.VehicleType;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Saves all users with their vehicles and comments to a binary file and loads them back.
+ * The file is read and written through a file channel with one large buffer, so a million vehicles
+ * take a few seconds. The logged in user is not saved.
+ * <p>
+ * The snapshot keeps the sequence number of the last journal record it contains, so a journal opened
+ * after loading it replays only the later records, see {@link CommandJournalImpl}. It also keeps the last
+ * vehicle and comment ids given, so vehicles and comments removed before the save do not have their ids
+ * given again after a load.
+ * <p>
+ * Layout: a header (magic number, version, journal sequence, last vehicle id, last comment id), the number of users and then every user as
+ * username, first name, last name, password, role and its vehicles. Every vehicle is written as
+ * id, type, make, model, price in cents, seats/category/weight capacity and its comments (id, content, author).
+ * Counts are ints, ids and prices are longs, enums are bytes and strings are an unsigned short length followed
+ * by UTF-8 bytes. Older snapshots have no last vehicle id (versions 1 to 6), no last comment id (versions 1 to 5),
+ * no journal sequence (versions 1 to 4), keep the price as a double (versions 1 to 3) and miss some ids
+ * (version 1 has none, version 2 only comment ids).
+ * Vehicles and comments keep their saved ids. Only those whose id is taken by a vehicle or comment already
+ * in the repository, and those saved without one, get new ids when they are added.
+ */
+public class RepositorySnapshot {
+
+    public static final int BUFFER_SIZE = 1 << 20;
+    public static final long NO_CHECKSUM = -1;
+
+    private static final int MAGIC = 0x43445331;
+    private static final int VERSION = 7;
+    private static final int VERSION_WITHOUT_LAST_VEHICLE_ID = 6;
+    private static final int VERSION_WITHOUT_LAST_COMMENT_ID = 5;
+    private static final int VERSION_WITHOUT_JOURNAL_SEQUENCE = 4;
+    private static final int VERSION_WITH_DOUBLE_PRICES = 3;
+    private static final int VERSION_WITHOUT_VEHICLE_IDS = 2;
+    private static final int VERSION_WITHOUT_COMMENT_IDS = 1;
+    private static final int MAX_STRING_LENGTH = 0xFFFF;
+    private static final int MAX_PRESIZED_USERS = 1 << 16;
+    private static final String NOT_A_SNAPSHOT = "%s is not a dealership snapshot.";
+    private static final String UNSUPPORTED_VERSION = "Snapshot version %d is not supported.";
+    private static final String CORRUPT_SNAPSHOT = "The snapshot is corrupt.";
+    private static final String STRING_TOO_LONG = "Cannot save a text of %d bytes.";
+    private static final String SNAPSHOT_CHANGED = "%s has changed since it was loaded.";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final double CENTS_PER_DOLLAR = 100;
+
+    private static final UserRole[] USER_ROLES = UserRole.values();
+    private static final VehicleType[] VEHICLE_TYPES = VehicleType.values();
+
+    private final ByteBuffer buffer;
+    private final CRC32 checksum;
+    // Makes, models and categories read so far, shared by the loaded vehicles until they are pooled by the repository.
+    private final Map<String, String> sharedStrings;
+    private boolean hasVehicleIds;
+    private boolean hasCommentIds;
+    private boolean hasPriceCents;
+    private FileChannel channel;
+    private long journalSequence;
+    private long lastVehicleId;
+    private long lastCommentId;
+    private int userCount;
+    private int vehicleCount;
+    private int commentCount;
+
+    public RepositorySnapshot() {
+        this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        this.checksum = new CRC32();
+        this.sharedStrings = new HashMap<>();
+    }
+
+    public int getUserCount() {
+        return userCount;
+    }
+
+    public int getVehicleCount() {
+        return vehicleCount;
+    }
+
+    public int getCommentCount() {
+        return commentCount;
+    }
+
+    /**
+     * Returns the sequence number of the last journal record contained in the snapshot, 0 when there is none.
+     */
+    public long getJournalSequence() {
+        return journalSequence;
+    }
+
+    /**
+     * Returns the CRC32 of the whole file the snapshot was last loaded from.
+     */
+    public long getChecksum() {
+        return checksum.getValue();
+    }
+
+    /**
+     * Writes the snapshot to a temporary file first and then moves it in place,
+     * so an interrupted save never leaves a broken snapshot behind. Changes must not be made
+     * to the repository meanwhile, or the snapshot may not match its journal sequence.
+     */
+    public void save(VehicleDealershipRepository repository, Path file) throws IOException {
+        resetCounts();
+        Path temporaryFile = file.resolveSibling(file.getFileName() + TEMPORARY_FILE_SUFFIX);
+        try (FileChannel output = FileChannel.open(temporaryFile,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel = output;
+            buffer.clear();
+            journalSequence = repository.getCommandJournal().getLastSequence();
+            lastVehicleId = repository.getLastVehicleId();
+            lastCommentId = repository.getLastCommentId();
+            writeSnapshot(repository.getUsers());
+            flush();
+        } finally {
+            channel = null;
+        }
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Adds the users in the snapshot to the repository, skipping those whose username is already registered.
+     */
+    public void load(Path file, VehicleDealershipRepository repository) throws IOException {
+        load(file, repository, NO_CHECKSUM);
+    }
+
+    /**
+     * Loads the snapshot like {@link #load(Path, VehicleDealershipRepository)}, but only when the file still has
+     * the given {@link #getChecksum() checksum}. Otherwise nothing is added and a {@link SnapshotChangedException}
+     * is thrown.
+     */
+    public void load(Path file, VehicleDealershipRepository repository, long expectedChecksum) throws IOException {
+        resetCounts();
+        checksum.reset();
+        List<User> users;
+        try (FileChannel input = FileChannel.open(file, StandardOpenOption.READ)) {
+            channel = input;
+            buffer.clear().flip();
+            users = readSnapshot(file, repository);
+            readToEnd();
+        } finally {
+            channel = null;
+            sharedStrings.clear();
+        }
+        if (expectedChecksum != NO_CHECKSUM && expectedChecksum != checksum.getValue()) {
+            throw new SnapshotChangedException(String.format(SNAPSHOT_CHANGED, file));
+        }
+        repository.reserveVehicleIds(lastVehicleId);
+        repository.reserveCommentIds(lastCommentId);
+        for (User user : users) {
+            if (isRegistered(repository, user.getUsername())) {
+                continue;
+            }
+            repository.addUser(user);
+            userCount++;
+            vehicleCount += user.getVehicleCount();
+            for (int i = 0; i < user.getVehicleCount(); i++) {
+                commentCount += user.getVehicle(i).getCommentCount();
+            }
+        }
+    }
+
+    private void writeSnapshot(List<User> users) throws IOException {
+        writeInt(MAGIC);
+        writeInt(VERSION);
+        writeLong(journalSequence);
+        writeLong(lastVehicleId);
+        writeLong(lastCommentId);
+        writeInt(users.size());
+        for (User user : users) {
+            writeUser(user);
+        }
+    }
+
+    private void writeUser(User user) throws IOException {
+        writeString(user.getUsername());
+        writeString(user.getFirstName());
+        writeString(user.getLastName());
+        writeString(user.getPassword());
+        writeByte(user.getRole().ordinal());
+        List<Vehicle> vehicles = user.getVehicles();
+        writeInt(vehicles.size());
+        for (Vehicle vehicle : vehicles) {
+            writeVehicle(vehicle);
+        }
+        userCount++;
+    }
+
+    private void writeVehicle(Vehicle vehicle) throws IOException {
+        writeLong(vehicle.getId());
+        writeByte(vehicle.getType().ordinal());
+        writeString(vehicle.getMake());
+        writeString(vehicle.getModel());
+        writeLong(vehicle.getPriceCents());
+        switch (vehicle.getType()) {
+            case CAR:
+                writeInt(((Car) vehicle).getSeats());
+                break;
+            case MOTORCYCLE:
+                writeString(((Motorcycle) vehicle).getCategory());
+                break;
+            case TRUCK:
+                writeInt(((Truck) vehicle).getWeightCapacity());
+                break;
+        }
+        List<Comment> comments = vehicle.getComments();
+        writeInt(comments.size());
+        for (Comment comment : comments) {
+            writeLong(comment.getId());
+            writeString(comment.getContent());
+            writeString(comment.getAuthor());
+        }
+        vehicleCount++;
+        commentCount += comments.size();
+    }
+
+    private List<User> readSnapshot(Path file, VehicleDealershipRepository repository) throws IOException {
+        if (readInt() != MAGIC) {
+            throw new IOException(String.format(NOT_A_SNAPSHOT, file));
+        }
+        int version = readInt();
+        if (version < VERSION_WITHOUT_COMMENT_IDS || version > VERSION) {
+            throw new IOException(String.format(UNSUPPORTED_VERSION, version));
+        }
+        hasVehicleIds = version > VERSION_WITHOUT_VEHICLE_IDS;
+        hasCommentIds = version > VERSION_WITHOUT_COMMENT_IDS;
+        hasPriceCents = version > VERSION_WITH_DOUBLE_PRICES;
+        journalSequence = version > VERSION_WITHOUT_JOURNAL_SEQUENCE ? readLong() : 0;
+        lastVehicleId = version > VERSION_WITHOUT_LAST_VEHICLE_ID ? readLong() : Vehicle.NO_ID;
+        lastCommentId = version > VERSION_WITHOUT_LAST_COMMENT_ID ? readLong() : Comment.NO_ID;
+        int count = readCount();
+        // A corrupt count runs into the end of the file instead of allocating a huge list up front.
+        List<User> users = new ArrayList<>(Math.min(count, MAX_PRESIZED_USERS));
+        for (int i = 0; i < count; i++) {
+            users.add(readUser(repository));
+        }
+        return users;
+    }
+
+    private User readUser(VehicleDealershipRepository repository) throws IOException {
+        String username = readString();
+        String firstName = readString();
+        String lastName = readString();
+        String password = readString();
+        UserRole role = readEnum(USER_ROLES);
+        User user = repository.createUser(username, firstName, lastName, password, role);
+        int count = readCount();
+        for (int i = 0; i < count; i++) {
+            user.addVehicle(readVehicle(repository));
+        }
+        return user;
+    }
+
+    private Vehicle readVehicle(VehicleDealershipRepository repository) throws IOException {
+        long vehicleId = hasVehicleIds ? readLong() : Vehicle.NO_ID;
+        VehicleType type = readEnum(VEHICLE_TYPES);
+        String make = readSharedString();
+        String model = readSharedString();
+        double price = hasPriceCents ? readLong() / CENTS_PER_DOLLAR : readDouble();
+        Vehicle vehicle;
+        switch (type) {
+            case CAR:
+                vehicle = repository.createCar(make, model, price, readInt());
+                break;
+            case MOTORCYCLE:
+                vehicle = repository.createMotorcycle(make, model, price, readSharedString());
+                break;
+            default:
+                vehicle = repository.createTruck(make, model, price, readInt());
+                break;
+        }
+        vehicle.setId(vehicleId);
+        int count = readCount();
+        for (int i = 0; i < count; i++) {
+            long id = hasCommentIds ? readLong() : Comment.NO_ID;
+            String content = readString();
+            String author = readString();
+            vehicle.addComment(hasCommentIds
+                    ? new CommentImpl(id, content, author)
+                    : repository.createComment(content, author));
+        }
+        return vehicle;
+    }
+
+    private static boolean isRegistered(VehicleDealershipRepository repository, String username) {
+        try {
+            repository.findUserByUsername(username);
+            return true;
+        } catch (InvalidUserInputException e) {
+            return false;
+        }
+    }
+
+    private void writeByte(int value) throws IOException {
+        ensureWritable(Byte.BYTES);
+        buffer.put((byte) value);
+    }
+
+    private void writeInt(int value) throws IOException {
+        ensureWritable(Integer.BYTES);
+        buffer.putInt(value);
+    }
+
+    private void writeLong(long value) throws IOException {
+        ensureWritable(Long.BYTES);
+        buffer.putLong(value);
+    }
+
+    private void writeString(String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_LENGTH) {
+            throw new IOException(String.format(STRING_TOO_LONG, bytes.length));
+        }
+        ensureWritable(Short.BYTES + bytes.length);
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    private void ensureWritable(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private int readByte() throws IOException {
+        ensureReadable(Byte.BYTES);
+        return buffer.get() & 0xFF;
+    }
+
+    private <E extends Enum<E>> E readEnum(E[] values) throws IOException {
+        int ordinal = readByte();
+        if (ordinal >= values.length) {
+            throw new IOException(CORRUPT_SNAPSHOT);
+        }
+        return values[ordinal];
+    }
+
+    /**
+     * Reads a count of users, vehicles or comments, which cannot be negative.
+     */
+    private int readCount() throws IOException {
+        int count = readInt();
+        if (count < 0) {
+            throw new IOException(CORRUPT_SNAPSHOT);
+        }
+        return count;
+    }
+
+    private int readInt() throws IOException {
+        ensureReadable(Integer.BYTES);
+        return buffer.getInt();
+    }
+
+    private long readLong() throws IOException {
+        ensureReadable(Long.BYTES);
+        return buffer.getLong();
+    }
+
+    private double readDouble() throws IOException {
+        ensureReadable(Double.BYTES);
+        return buffer.getDouble();
+    }
+
+    private String readString() throws IOException {
+        ensureReadable(Short.BYTES);
+        int length = buffer.getShort() & MAX_STRING_LENGTH;
+        ensureReadable(length);
+        String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    private String readSharedString() throws IOException {
+        String value = readString();
+        String shared = sharedStrings.putIfAbsent(value, value);
+        return shared == null ? value : shared;
+    }
+
+    private void ensureReadable(int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        buffer.compact();
+        while (buffer.position() < bytes) {
+            if (read() < 0) {
+                throw new EOFException();
+            }
+        }
+        buffer.flip();
+    }
+
+    private void readToEnd() throws IOException {
+        do {
+            buffer.clear();
+        } while (read() >= 0);
+    }
+
+    private int read() throws IOException {
+        int start = buffer.position();
+        int count = channel.read(buffer);
+        if (count > 0) {
+            checksum.update(buffer.array(), buffer.arrayOffset() + start, count);
+        }
+        return count;
+    }
+
+    private void resetCounts() {
+        userCount = 0;
+        vehicleCount = 0;
+        commentCount = 0;
+    }
+}
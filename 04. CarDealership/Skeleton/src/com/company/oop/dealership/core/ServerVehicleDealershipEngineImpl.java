@@ -0,0 +1,139 @@
+package com.company.oop.dealership.core;
+
+import com.company.oop.dealership.commands.contracts.Command;
+import com.company.oop.dealership.core.contracts.CommandJournal;
+import com.company.oop.dealership.core.contracts.VehicleDealershipEngine;
+import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Engine serving many terminals at once over local sockets. Every connection is a separate session
+ * with its own logged in user, handled on its own (virtual, where the JVM supports it) thread.
+ * All sessions share one repository, which should be a {@link ConcurrentVehicleDealershipRepositoryImpl}.
+ * Commands that only read run in parallel. Commands that change the repository are executed
+ * one at a time, so they are applied in the same order as they are journaled.
+ * When the repository is journaled, the result of a change is sent only after it is durable, so the
+ * sessions waiting at the same time share one fsync. Commands that only read do not wait for it.
+ */
+public class ServerVehicleDealershipEngineImpl implements VehicleDealershipEngine {
+
+    public static final int DEFAULT_PORT = 8090;
+
+    private final VehicleDealershipRepository sharedRepository;
+    private final ServerSocket serverSocket;
+    private final ExecutorService sessionExecutor;
+    private final Lock changeLock;
+
+    public ServerVehicleDealershipEngineImpl(int port) {
+        this(port, new ConcurrentVehicleDealershipRepositoryImpl());
+    }
+
+    public ServerVehicleDealershipEngineImpl(int port, VehicleDealershipRepository sharedRepository) {
+        this.sharedRepository = sharedRepository;
+        this.sessionExecutor = newSessionExecutor();
+        this.changeLock = new ReentrantLock();
+        try {
+            this.serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    @Override
+    public void start() {
+        try {
+            while (!serverSocket.isClosed()) {
+                Socket socket = serverSocket.accept();
+                sessionExecutor.execute(() -> serve(socket));
+            }
+        } catch (SocketException e) {
+            // The server socket was closed by stop().
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            sessionExecutor.shutdown();
+        }
+    }
+
+    public void stop() {
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket) {
+            new ClientSessionEngine(socket).start();
+        } catch (IOException | UncheckedIOException e) {
+            // The client went away, nothing left to report to it.
+        }
+    }
+
+    private static ExecutorService newSessionExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    private class ClientSessionEngine extends BatchVehicleDealershipEngineImpl {
+
+        private ClientSessionEngine(Socket socket) throws IOException {
+            super(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8),
+                    new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8),
+                    OUTPUT_BUFFER_SIZE,
+                    new SessionVehicleDealershipRepositoryImpl(sharedRepository));
+        }
+
+        @Override
+        protected void execute(Command command, List<String> parameters, Appendable output) throws IOException {
+            // Rendered before sending, so a slow terminal does not hold up a change the other sessions wait for.
+            CommandJournal journal = sharedRepository.getCommandJournal();
+            StringBuilder result = new StringBuilder();
+            long changeSequence = 0;
+            if (command.changesRepository() || command.blocksChanges()) {
+                changeLock.lock();
+                try {
+                    super.execute(command, parameters, result);
+                    // Taken under the lock, so it is the record of this change and not of a later one.
+                    changeSequence = journal.getLastSequence();
+                } finally {
+                    changeLock.unlock();
+                }
+            } else {
+                super.execute(command, parameters, result);
+            }
+            if (command.changesRepository()) {
+                journal.awaitDurable(changeSequence);
+            }
+            output.append(result);
+        }
+
+        @Override
+        protected void endReport() {
+            super.endReport();
+            flushOutput();
+        }
+    }
+}
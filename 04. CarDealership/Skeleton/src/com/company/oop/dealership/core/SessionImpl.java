@@ -0,0 +1,39 @@
+package com.company.oop.dealership.core;
+
+import com.company.oop.dealership.core.contracts.Session;
+import com.company.oop.dealership.exceptions.InvalidUserInputException;
+import com.company.oop.dealership.models.contracts.User;
+
+public class SessionImpl implements Session {
+
+    private static final String NO_LOGGED_IN_USER = "There is no logged in user.";
+
+    private User loggedUser;
+
+    public SessionImpl() {
+        this.loggedUser = null;
+    }
+
+    @Override
+    public User getLoggedInUser() {
+        if (loggedUser == null) {
+            throw new InvalidUserInputException(NO_LOGGED_IN_USER);
+        }
+        return loggedUser;
+    }
+
+    @Override
+    public boolean hasLoggedInUser() {
+        return loggedUser != null;
+    }
+
+    @Override
+    public void login(User user) {
+        loggedUser = user;
+    }
+
+    @Override
+    public void logout() {
+        loggedUser = null;
+    }
+}
@@ -0,0 +1,164 @@
+package com.company.oop.dealership.core;
+
+import com.company.oop.dealership.core.contracts.CommandJournal;
+import com.company.oop.dealership.core.contracts.CommandStatistics;
+import com.company.oop.dealership.core.contracts.Session;
+import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
+import com.company.oop.dealership.models.contracts.*;
+import com.company.oop.dealership.models.enums.UserRole;
+import com.company.oop.dealership.models.enums.VehicleGrouping;
+import com.company.oop.dealership.models.enums.VehicleType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Repository view for a single session. Users and vehicles are read from and stored in the shared
+ * repository, while the logged in user is kept in this view's own session.
+ */
+public class SessionVehicleDealershipRepositoryImpl implements VehicleDealershipRepository {
+
+    private final VehicleDealershipRepository sharedRepository;
+    private final Session session;
+
+    public SessionVehicleDealershipRepositoryImpl(VehicleDealershipRepository sharedRepository) {
+        this.sharedRepository = sharedRepository;
+        this.session = new SessionImpl();
+    }
+
+    @Override
+    public List<User> getUsers() {
+        return sharedRepository.getUsers();
+    }
+
+    @Override
+    public void addUser(User userToAdd) {
+        sharedRepository.addUser(userToAdd);
+    }
+
+    @Override
+    public User findUserByUsername(String username) {
+        return sharedRepository.findUserByUsername(username);
+    }
+
+    @Override
+    public Map<Vehicle, User> findVehicles(VehicleType type, String make, String model) {
+        return sharedRepository.findVehicles(type, make, model);
+    }
+
+    @Override
+    public Stream<Map.Entry<Vehicle, User>> findVehiclesInPriceRange(double min, double max) {
+        return sharedRepository.findVehiclesInPriceRange(min, max);
+    }
+
+    @Override
+    public List<PriceSummary> summarizePrices(VehicleGrouping grouping) {
+        return sharedRepository.summarizePrices(grouping);
+    }
+
+    @Override
+    public Map.Entry<Vehicle, User> findVehicleById(long id) {
+        return sharedRepository.findVehicleById(id);
+    }
+
+    @Override
+    public Map.Entry<Comment, Vehicle> findCommentById(long id) {
+        return sharedRepository.findCommentById(id);
+    }
+
+    @Override
+    public Map<Comment, Vehicle> findCommentsByAuthor(String author) {
+        return sharedRepository.findCommentsByAuthor(author);
+    }
+
+    @Override
+    public long getPriceIndexBytes() {
+        return sharedRepository.getPriceIndexBytes();
+    }
+
+    @Override
+    public List<StringPool> getStringPools() {
+        return sharedRepository.getStringPools();
+    }
+
+    @Override
+    public CommandStatistics getCommandStatistics() {
+        return sharedRepository.getCommandStatistics();
+    }
+
+    @Override
+    public CommandJournal getCommandJournal() {
+        return sharedRepository.getCommandJournal();
+    }
+
+    @Override
+    public void setCommandJournal(CommandJournal commandJournal) {
+        sharedRepository.setCommandJournal(commandJournal);
+    }
+
+    @Override
+    public User getLoggedInUser() {
+        return session.getLoggedInUser();
+    }
+
+    @Override
+    public boolean hasLoggedInUser() {
+        return session.hasLoggedInUser();
+    }
+
+    @Override
+    public void login(User user) {
+        session.login(user);
+    }
+
+    @Override
+    public void logout() {
+        session.logout();
+    }
+
+    @Override
+    public Car createCar(String make, String model, double price, int seats) {
+        return sharedRepository.createCar(make, model, price, seats);
+    }
+
+    @Override
+    public Motorcycle createMotorcycle(String make, String model, double price, String category) {
+        return sharedRepository.createMotorcycle(make, model, price, category);
+    }
+
+    @Override
+    public Truck createTruck(String make, String model, double price, int weightCapacity) {
+        return sharedRepository.createTruck(make, model, price, weightCapacity);
+    }
+
+    @Override
+    public User createUser(String username, String firstName, String lastName, String password, UserRole userRole) {
+        return sharedRepository.createUser(username, firstName, lastName, password, userRole);
+    }
+
+    @Override
+    public Comment createComment(String content, String author) {
+        return sharedRepository.createComment(content, author);
+    }
+
+    @Override
+    public long getLastVehicleId() {
+        return sharedRepository.getLastVehicleId();
+    }
+
+    @Override
+    public void reserveVehicleIds(long lastId) {
+        sharedRepository.reserveVehicleIds(lastId);
+    }
+
+    @Override
+    public long getLastCommentId() {
+        return sharedRepository.getLastCommentId();
+    }
+
+    @Override
+    public void reserveCommentIds(long lastId) {
+        sharedRepository.reserveCommentIds(lastId);
+    }
+}
@@ -0,0 +1,151 @@
+package com.company.oop.dealership.core;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Dictionary of canonical string instances. Vehicles created by the repository keep the pooled
+ * instance of their make, model or category, so the copy parsed from every command line can be
+ * collected right away. Strings longer than {@value #MAX_POOLED_LENGTH} characters are returned
+ * as they are, since no valid make, model or category is that long.
+ * <p>
+ * The pool counts the references held by the vehicles currently in the dealership: the repository
+ * retains the strings of a vehicle when it is added and releases them when it is removed. A string is pooled
+ * with the first vehicle having it and dropped with the last one, so the counts and the saved bytes
+ * are those of the strings kept right now.
+ * <p>
+ * The saved bytes are estimated for a 64-bit JVM with compressed references and compact strings:
+ * 24 bytes for the string object and 16 bytes plus one or two per character, rounded up to 8, for its array.
+ */
+public class StringPool {
+
+    public static final int MAX_POOLED_LENGTH = 64;
+
+    private static final int STRING_OBJECT_SIZE = 24;
+    private static final int ARRAY_HEADER_SIZE = 16;
+    private static final int OBJECT_ALIGNMENT = 8;
+    private static final char MAX_LATIN1_CHAR = 0xFF;
+
+    private final String name;
+    private final Map<String, Entry> entries;
+    private final LongAdder references;
+    private final LongAdder bytesSaved;
+
+    public StringPool(String name) {
+        this.name = name;
+        this.entries = new ConcurrentHashMap<>();
+        this.references = new LongAdder();
+        this.bytesSaved = new LongAdder();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the pooled instance equal to the value, or the value itself when no vehicle in the dealership has it.
+     */
+    public String intern(String value) {
+        if (!isPoolable(value)) {
+            return value;
+        }
+        Entry entry = entries.get(value);
+        return entry == null ? value : entry.value;
+    }
+
+    /**
+     * Counts a reference to the value held by a vehicle added to the dealership, pooling the value
+     * when it is the first one.
+     */
+    public void retain(String value) {
+        if (!isPoolable(value)) {
+            return;
+        }
+        entries.compute(value, (key, entry) -> {
+            if (entry == null) {
+                entry = new Entry(value);
+            }
+            entry.references++;
+            if (entry.value == value) {
+                changeSharing(entry, 1);
+            }
+            references.increment();
+            return entry;
+        });
+    }
+
+    /**
+     * Drops a reference counted by {@link #retain(String)}, and the pooled value with its last reference.
+     */
+    public void release(String value) {
+        if (!isPoolable(value)) {
+            return;
+        }
+        entries.computeIfPresent(value, (key, entry) -> {
+            entry.references--;
+            if (entry.value == value) {
+                changeSharing(entry, -1);
+            }
+            references.decrement();
+            if (entry.references > 0) {
+                return entry;
+            }
+            changeSharing(entry, -entry.sharing);
+            return null;
+        });
+    }
+
+    public int getDistinctCount() {
+        return entries.size();
+    }
+
+    public long getReferenceCount() {
+        return references.sum();
+    }
+
+    public long getBytesSaved() {
+        return bytesSaved.sum();
+    }
+
+    static long sizeOf(String value) {
+        int bytesPerChar = 1;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > MAX_LATIN1_CHAR) {
+                bytesPerChar = 2;
+                break;
+            }
+        }
+        long arraySize = ARRAY_HEADER_SIZE + (long) value.length() * bytesPerChar;
+        return STRING_OBJECT_SIZE + (arraySize + OBJECT_ALIGNMENT - 1) / OBJECT_ALIGNMENT * OBJECT_ALIGNMENT;
+    }
+
+    private static boolean isPoolable(String value) {
+        return value != null && value.length() <= MAX_POOLED_LENGTH;
+    }
+
+    /**
+     * Every reference sharing the pooled instance after the first one saves a copy.
+     */
+    private void changeSharing(Entry entry, int delta) {
+        long savedCopiesBefore = Math.max(0, entry.sharing - 1);
+        entry.sharing += delta;
+        long savedCopiesAfter = Math.max(0, entry.sharing - 1);
+        if (savedCopiesAfter != savedCopiesBefore) {
+            bytesSaved.add((savedCopiesAfter - savedCopiesBefore) * sizeOf(entry.value));
+        }
+    }
+
+    // Guarded by the map, which updates an entry only inside compute.
+    private static class Entry {
+
+        private final String value;
+        private int references;
+        // References to this very instance, the others hold an equal copy created before it was pooled.
+        private int sharing;
+
+        private Entry(String value) {
+            this.value = value;
+        }
+    }
+}
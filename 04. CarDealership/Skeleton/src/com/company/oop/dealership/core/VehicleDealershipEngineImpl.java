@@ -5,26 +5,30 @@ import com.company.oop.dealership.core.contracts.CommandFactory;
 import com.company.oop.dealership.core.contracts.VehicleDealershipEngine;
 import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
 
-import java.util.ArrayList;
-import java.util.Arrays;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Scanner;
 
 public class VehicleDealershipEngineImpl implements VehicleDealershipEngine {
 
-    private static final String TERMINATION_COMMAND = "Exit";
-    private static final String EMPTY_COMMAND_ERROR = "Command cannot be empty.";
-    private static final String MAIN_SPLIT_SYMBOL = " ";
-    private static final String COMMENT_OPEN_SYMBOL = "{{";
-    private static final String COMMENT_CLOSE_SYMBOL = "}}";
-    private static final String REPORT_SEPARATOR = "####################";
+    protected static final String TERMINATION_COMMAND = "Exit";
+    protected static final String EMPTY_COMMAND_ERROR = "Command cannot be empty.";
+    protected static final String UNKNOWN_COMMAND_ERROR = "There is no %s in CommandTypes.";
+    protected static final String REPORT_SEPARATOR = "####################";
 
     private final CommandFactory commandFactory;
     private final VehicleDealershipRepository vehicleDealershipRepository;
+    private final CommandLineTokenizer tokenizer;
 
     public VehicleDealershipEngineImpl() {
-        this.commandFactory = new CommandFactoryImpl();
-        this.vehicleDealershipRepository = new VehicleDealershipRepositoryImpl();
+        this(new VehicleDealershipRepositoryImpl());
+    }
+
+    public VehicleDealershipEngineImpl(VehicleDealershipRepository vehicleDealershipRepository) {
+        this.commandFactory = new CommandFactoryImpl(vehicleDealershipRepository);
+        this.vehicleDealershipRepository = vehicleDealershipRepository;
+        this.tokenizer = new CommandLineTokenizer();
     }
 
     public void start() {
@@ -32,81 +36,92 @@ public class VehicleDealershipEngineImpl implements VehicleDealershipEngine {
         while (true) {
             try {
                 String inputLine = scanner.nextLine();
-                if (inputLine.isBlank()) {
-                    print(EMPTY_COMMAND_ERROR);
-                    continue;
-                }
-                if (inputLine.equalsIgnoreCase(TERMINATION_COMMAND)) {
+                if (!processLine(inputLine)) {
                     break;
                 }
-                processCommand(inputLine);
             } catch (Exception ex) {
-                if (ex.getMessage() != null && !ex.getMessage().isEmpty()) {
-                    print(ex.getMessage());
-                } else {
-                    print(ex.toString());
-                }
+                printException(ex);
             }
         }
     }
 
-    private void processCommand(String inputLine) {
-        String commandName = extractCommandName(inputLine);
-        List<String> parameters = extractCommandParameters(inputLine);
-        Command command = commandFactory.createCommandFromCommandName(commandName, vehicleDealershipRepository);
-        String executionResult = command.execute(parameters);
-        print(executionResult);
-    }
-
     /**
-     * Receives a full line and extracts the command to be executed from it.
-     * For example, if the input line is "FilterBy Assignee John", the method will return "FilterBy".
+     * Handles a single input line and prints its result.
      *
      * @param inputLine A complete input line
-     * @return The name of the command to be executed
+     * @return false if the line is the termination command, true otherwise
      */
-    private String extractCommandName(String inputLine) {
-        return inputLine.split(" ")[0];
+    protected boolean processLine(String inputLine) {
+        try {
+            if (inputLine.isBlank()) {
+                print(EMPTY_COMMAND_ERROR);
+                return true;
+            }
+            if (inputLine.equalsIgnoreCase(TERMINATION_COMMAND)) {
+                return false;
+            }
+            processCommand(inputLine);
+        } catch (Exception ex) {
+            printException(ex);
+        }
+        return true;
+    }
+
+    private void processCommand(String inputLine) throws IOException {
+        tokenizer.tokenize(inputLine);
+        Command command = commandFactory.findCommand(tokenizer.getCommandName());
+        if (command == null) {
+            print(String.format(UNKNOWN_COMMAND_ERROR, tokenizer.getCommandName()));
+            return;
+        }
+        execute(command, tokenizer.getParameters(), getOutput());
+        endReport();
     }
 
     /**
-     * Receives a full line and extracts the parameters that are needed for the command to execute.
-     * For example, if the input line is "FilterBy Assignee John",
-     * the method will return a list of ["Assignee", "John"].
-     *
-     * @param inputLine A complete input line
-     * @return A list of the parameters needed to execute the command
+     * Executes the command, writing its result straight into the output.
      */
-    private List<String> extractCommandParameters(String inputLine) {
-        if (inputLine.contains(COMMENT_OPEN_SYMBOL)) {
-            return extractCommentParameters(inputLine);
-        }
-        String[] commandParts = inputLine.split(" ");
-        List<String> parameters = new ArrayList<>();
-        for (int i = 1; i < commandParts.length; i++) {
-            parameters.add(commandParts[i]);
-        }
-        return parameters;
+    protected void execute(Command command, List<String> parameters, Appendable output) throws IOException {
+        command.execute(parameters, output);
+    }
+
+    protected CommandFactory getCommandFactory() {
+        return commandFactory;
     }
 
-    public List<String> extractCommentParameters(String fullCommand) {
-        int indexOfFirstSeparator = fullCommand.indexOf(MAIN_SPLIT_SYMBOL);
-        int indexOfOpenComment = fullCommand.indexOf(COMMENT_OPEN_SYMBOL);
-        int indexOfCloseComment = fullCommand.indexOf(COMMENT_CLOSE_SYMBOL);
-        List<String> parameters = new ArrayList<>();
-        if (indexOfOpenComment >= 0) {
-            parameters.add(fullCommand.substring(indexOfOpenComment + COMMENT_OPEN_SYMBOL.length(), indexOfCloseComment));
-            fullCommand = fullCommand.replaceAll("\\{\\{.+(?=}})}}", "");
+    protected VehicleDealershipRepository getVehicleDealershipRepository() {
+        return vehicleDealershipRepository;
+    }
+
+    protected static String getErrorMessage(Exception ex) {
+        if (ex.getMessage() != null && !ex.getMessage().isEmpty()) {
+            return ex.getMessage();
         }
+        return ex.toString();
+    }
 
-        List<String> result = new ArrayList<>(Arrays.asList(fullCommand.substring(indexOfFirstSeparator + 1).split(MAIN_SPLIT_SYMBOL)));
-        result.removeAll(Arrays.asList(" ", "", null));
-        parameters.addAll(result);
-        return parameters;
+    private void printException(Exception ex) {
+        print(getErrorMessage(ex));
     }
 
-    private void print(String result) {
-        System.out.println(result);
-        System.out.println(REPORT_SEPARATOR);
+    protected Appendable getOutput() {
+        return System.out;
+    }
+
+    protected void print(String result) {
+        try {
+            getOutput().append(result);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        endReport();
+    }
+
+    protected void endReport() {
+        try {
+            getOutput().append(System.lineSeparator()).append(REPORT_SEPARATOR).append(System.lineSeparator());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
@@ -1,88 +1,195 @@
 package com.company.oop.dealership.core;
 
 
+import com.company.oop.dealership.core.contracts.CommandJournal;
+import com.company.oop.dealership.core.contracts.CommandStatistics;
+import com.company.oop.dealership.core.contracts.Session;
 import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
+import com.company.oop.dealership.exceptions.InvalidUserInputException;
 import com.company.oop.dealership.models.*;
 import com.company.oop.dealership.models.contracts.*;
 import com.company.oop.dealership.models.enums.UserRole;
+import com.company.oop.dealership.models.enums.VehicleGrouping;
+import com.company.oop.dealership.models.enums.VehicleType;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
 
 
 public class VehicleDealershipRepositoryImpl implements VehicleDealershipRepository {
 
-    private static final String NO_LOGGED_IN_USER = "There is no logged in user.";
     private final static String NO_SUCH_USER = "There is no user with username %s!";
     private final static String USER_ALREADY_EXIST = "User %s already exist. Choose a different username!";
+    private final static String NO_SUCH_VEHICLE = "There is no vehicle with id %d!";
+    private final static String NO_SUCH_COMMENT = "There is no comment with id %d!";
+    private final static String MAKES_POOL = "Makes";
+    private final static String MODELS_POOL = "Models";
+    private final static String CATEGORIES_POOL = "Categories";
 
     private final List<User> users;
-    private User loggedUser;
+    private final List<User> usersView;
+    private final Map<String, User> usersByUsername;
+    private final VehicleSearchIndex vehicleSearchIndex;
+    private final VehiclePriceIndex vehiclePriceIndex;
+    private final VehicleIdIndex vehicleIdIndex;
+    private final CommentIndex commentIndex;
+    private final InventoryListener inventoryIndexer;
+    private final StringPool makes;
+    private final StringPool models;
+    private final StringPool categories;
+    private final Session session;
+    private final CommandStatistics commandStatistics;
+    private long lastCommentId;
+    private volatile CommandJournal commandJournal;
 
     public VehicleDealershipRepositoryImpl() {
         this.users = new ArrayList<>();
-        this.loggedUser = null;
+        this.usersView = Collections.unmodifiableList(users);
+        this.usersByUsername = new HashMap<>();
+        this.vehicleSearchIndex = new VehicleSearchIndex();
+        this.vehiclePriceIndex = new VehiclePriceIndex();
+        this.vehicleIdIndex = new VehicleIdIndex();
+        this.commentIndex = new CommentIndex();
+        this.inventoryIndexer = new InventoryIndexer();
+        this.makes = new StringPool(MAKES_POOL);
+        this.models = new StringPool(MODELS_POOL);
+        this.categories = new StringPool(CATEGORIES_POOL);
+        this.session = new SessionImpl();
+        this.commandStatistics = new CommandStatisticsImpl();
+        this.commandJournal = CommandJournal.DISABLED;
     }
 
+    /**
+     * Returns a read-only view of the users in registration order, which also shows users registered later.
+     */
     @Override
     public List<User> getUsers() {
-        return new ArrayList<>(users);
+        return usersView;
     }
 
     @Override
     public void addUser(User userToAdd) {
-        if (users.contains(userToAdd)) {
-            throw new IllegalArgumentException(String.format(USER_ALREADY_EXIST, userToAdd.getUsername()));
+        User existingUser = usersByUsername.putIfAbsent(toKey(userToAdd.getUsername()), userToAdd);
+        if (existingUser != null) {
+            throw new InvalidUserInputException(String.format(USER_ALREADY_EXIST, userToAdd.getUsername()));
         }
-        this.users.add(userToAdd);
+        users.add(userToAdd);
+        for (int i = 0; i < userToAdd.getVehicleCount(); i++) {
+            inventoryIndexer.vehicleAdded(userToAdd, userToAdd.getVehicle(i));
+        }
+        userToAdd.setInventoryListener(inventoryIndexer);
     }
 
     @Override
     public User findUserByUsername(String username) {
-        User user = users
-                .stream()
-                .filter(u -> u.getUsername().equalsIgnoreCase(username))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException(String.format(NO_SUCH_USER, username)));
+        User user = usersByUsername.get(toKey(username));
+        if (user == null) {
+            throw new InvalidUserInputException(String.format(NO_SUCH_USER, username));
+        }
         return user;
     }
 
     @Override
-    public User getLoggedInUser() {
-        if (loggedUser == null) {
-            throw new IllegalArgumentException(NO_LOGGED_IN_USER);
+    public Map<Vehicle, User> findVehicles(VehicleType type, String make, String model) {
+        return vehicleSearchIndex.find(type, make, model);
+    }
+
+    @Override
+    public Stream<Map.Entry<Vehicle, User>> findVehiclesInPriceRange(double min, double max) {
+        return vehiclePriceIndex.findInRange(min, max);
+    }
+
+    @Override
+    public List<PriceSummary> summarizePrices(VehicleGrouping grouping) {
+        return vehiclePriceIndex.summarizePrices(grouping);
+    }
+
+    @Override
+    public Map.Entry<Vehicle, User> findVehicleById(long id) {
+        Map.Entry<Vehicle, User> vehicle = vehicleIdIndex.findById(id);
+        if (vehicle == null) {
+            throw new InvalidUserInputException(String.format(NO_SUCH_VEHICLE, id));
+        }
+        return vehicle;
+    }
+
+    @Override
+    public Map.Entry<Comment, Vehicle> findCommentById(long id) {
+        Map.Entry<Comment, Vehicle> comment = commentIndex.findById(id);
+        if (comment == null) {
+            throw new InvalidUserInputException(String.format(NO_SUCH_COMMENT, id));
         }
-        return loggedUser;
+        return comment;
+    }
+
+    @Override
+    public Map<Comment, Vehicle> findCommentsByAuthor(String author) {
+        return commentIndex.findByAuthor(author);
+    }
+
+    @Override
+    public long getPriceIndexBytes() {
+        return vehiclePriceIndex.getEstimatedBytes();
+    }
+
+    @Override
+    public List<StringPool> getStringPools() {
+        return List.of(makes, models, categories);
+    }
+
+    @Override
+    public CommandStatistics getCommandStatistics() {
+        return commandStatistics;
+    }
+
+    @Override
+    public CommandJournal getCommandJournal() {
+        return commandJournal;
+    }
+
+    @Override
+    public void setCommandJournal(CommandJournal commandJournal) {
+        this.commandJournal = commandJournal;
+    }
+
+    @Override
+    public User getLoggedInUser() {
+        return session.getLoggedInUser();
     }
 
     @Override
     public boolean hasLoggedInUser() {
-        return loggedUser != null;
+        return session.hasLoggedInUser();
     }
 
     @Override
     public void login(User user) {
-        loggedUser = user;
+        session.login(user);
     }
 
     @Override
     public void logout() {
-        loggedUser = null;
+        session.logout();
     }
 
     @Override
     public Car createCar(String make, String model, double price, int seats) {
-        return new CarImpl(make, model, price, seats);
+        return new CarImpl(makes.intern(make), models.intern(model), price, seats);
     }
 
     @Override
     public Motorcycle createMotorcycle(String make, String model, double price, String category) {
-        return new MotorcycleImpl(make, model, price, category);
+        return new MotorcycleImpl(makes.intern(make), models.intern(model), price, categories.intern(category));
     }
 
     @Override
     public Truck createTruck(String make, String model, double price, int weightCapacity) {
-        return new TruckImpl(make, model, price, weightCapacity);
+        return new TruckImpl(makes.intern(make), models.intern(model), price, weightCapacity);
     }
 
     @Override
@@ -90,8 +197,92 @@ public class VehicleDealershipRepositoryImpl implements VehicleDealershipReposit
         return new UserImpl(username, firstName, lastName, password, userRole);
     }
 
+    /**
+     * Gives the comment the next id after all ids in use, including the ones loaded from a snapshot.
+     */
     @Override
     public Comment createComment(String content, String author) {
-        return new CommentImpl(content, author);
+        Comment comment = new CommentImpl(Math.max(lastCommentId, commentIndex.getMaxId()) + 1, content, author);
+        lastCommentId = comment.getId();
+        return comment;
+    }
+
+    @Override
+    public long getLastVehicleId() {
+        return vehicleIdIndex.getMaxId();
+    }
+
+    @Override
+    public void reserveVehicleIds(long lastId) {
+        vehicleIdIndex.reserveIds(lastId);
+    }
+
+    @Override
+    public long getLastCommentId() {
+        return Math.max(lastCommentId, commentIndex.getMaxId());
+    }
+
+    @Override
+    public void reserveCommentIds(long lastId) {
+        lastCommentId = Math.max(lastCommentId, lastId);
+    }
+
+    private static String toKey(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Gives the vehicles their ids and keeps the vehicle indexes, the comment index and the string pools
+     * up to date as the registered users add and remove vehicles and comments.
+     */
+    private class InventoryIndexer implements InventoryListener {
+
+        @Override
+        public void vehicleAdded(User owner, Vehicle vehicle) {
+            vehicleIdIndex.add(owner, vehicle);
+            vehicleSearchIndex.add(owner, vehicle);
+            vehiclePriceIndex.add(owner, vehicle);
+            commentIndex.addAll(vehicle);
+            retainStrings(vehicle);
+        }
+
+        @Override
+        public void vehicleRemoved(User owner, Vehicle vehicle) {
+            vehicleIdIndex.remove(vehicle);
+            vehicleSearchIndex.remove(vehicle);
+            vehiclePriceIndex.remove(vehicle);
+            commentIndex.removeAll(vehicle);
+            releaseStrings(vehicle);
+        }
+
+        @Override
+        public void commentAdded(Vehicle vehicle, Comment comment) {
+            // A comment added to a vehicle that was already removed is not indexed.
+            Map.Entry<Vehicle, User> indexed = vehicleIdIndex.findById(vehicle.getId());
+            if (indexed != null && indexed.getKey() == vehicle) {
+                commentIndex.add(vehicle, comment);
+            }
+        }
+
+        @Override
+        public void commentRemoved(Vehicle vehicle, Comment comment) {
+            commentIndex.remove(comment);
+        }
+
+        private void retainStrings(Vehicle vehicle) {
+            makes.retain(vehicle.getMake());
+            models.retain(vehicle.getModel());
+            if (vehicle.getType() == VehicleType.MOTORCYCLE) {
+                categories.retain(((Motorcycle) vehicle).getCategory());
+            }
+        }
+
+        private void releaseStrings(Vehicle vehicle) {
+            makes.release(vehicle.getMake());
+            models.release(vehicle.getModel());
+            if (vehicle.getType() == VehicleType.MOTORCYCLE) {
+                categories.release(((Motorcycle) vehicle).getCategory());
+            }
+        }
     }
 }
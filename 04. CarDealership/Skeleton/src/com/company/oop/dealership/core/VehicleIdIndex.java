@@ -0,0 +1,61 @@
+package com.company.oop.dealership.core;
+
+import com.company.oop.dealership.models.contracts.User;
+import com.company.oop.dealership.models.contracts.Vehicle;
+
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Index of all vehicles in the dealership by id, each pointing to the owner.
+ * A vehicle gets its id when it is first indexed and keeps it, so the id does not change
+ * when the owner removes other vehicles. Ids are never given twice.
+ */
+public class VehicleIdIndex {
+
+    private final Map<Long, Map.Entry<Vehicle, User>> vehiclesById;
+    private long maxId;
+
+    public VehicleIdIndex() {
+        this.vehiclesById = new HashMap<>();
+    }
+
+    /**
+     * Indexes the vehicle under its id. A vehicle without an id, or with an id taken by another vehicle,
+     * is given the next one first.
+     */
+    public void add(User owner, Vehicle vehicle) {
+        Map.Entry<Vehicle, User> existing = vehiclesById.get(vehicle.getId());
+        if (vehicle.getId() == Vehicle.NO_ID || (existing != null && existing.getKey() != vehicle)) {
+            vehicle.setId(maxId + 1);
+        }
+        vehiclesById.put(vehicle.getId(), new AbstractMap.SimpleImmutableEntry<>(vehicle, owner));
+        maxId = Math.max(maxId, vehicle.getId());
+    }
+
+    /**
+     * Returns the biggest id given so far, also to vehicles removed since.
+     */
+    public long getMaxId() {
+        return maxId;
+    }
+
+    /**
+     * Makes vehicles get ids after the given one, e.g. the last id given before a restart.
+     */
+    public void reserveIds(long lastId) {
+        maxId = Math.max(maxId, lastId);
+    }
+
+    public void remove(Vehicle vehicle) {
+        vehiclesById.remove(vehicle.getId());
+    }
+
+    /**
+     * Returns the vehicle with the given id and its owner, or null when there is no such vehicle.
+     */
+    public Map.Entry<Vehicle, User> findById(long id) {
+        return vehiclesById.get(id);
+    }
+}
@@ -0,0 +1,175 @@
+package com.company.oop.dealership.core;
+
+import com.company.oop.dealership.models.contracts.User;
+import com.company.oop.dealership.models.contracts.Vehicle;
+import com.company.oop.dealership.models.enums.VehicleGrouping;
+import com.company.oop.dealership.models.enums.VehicleType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Index of all vehicles in the dealership sorted by price. Vehicles with the same price
+ * are kept in the order they were added. Finding a price range costs O(log n), after which
+ * every vehicle in the range is read in O(1).
+ * <p>
+ * It is also the only place the price statistics are read from, so the dealership keeps no other copy of the prices.
+ * Its size is estimated for a 64-bit JVM with compressed references: a tree entry, a boxed price and a map with
+ * its table for every distinct price, and a map entry for every vehicle.
+ */
+public class VehiclePriceIndex {
+
+    private static final int PRICE_ENTRY_SIZE = 40 + 16 + 56 + 80;
+    private static final int VEHICLE_ENTRY_SIZE = 40;
+    private static final double CENTS_PER_DOLLAR = 100;
+
+    private final NavigableMap<Double, Map<Vehicle, User>> vehiclesByPrice;
+    private int size;
+
+    public VehiclePriceIndex() {
+        this.vehiclesByPrice = new TreeMap<>();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getEstimatedBytes() {
+        return (long) vehiclesByPrice.size() * PRICE_ENTRY_SIZE + (long) size * VEHICLE_ENTRY_SIZE;
+    }
+
+    public void add(User owner, Vehicle vehicle) {
+        if (vehiclesByPrice.computeIfAbsent(vehicle.getPrice(), price -> new LinkedHashMap<>()).put(vehicle, owner) == null) {
+            size++;
+        }
+    }
+
+    public void remove(Vehicle vehicle) {
+        Map<Vehicle, User> vehicles = vehiclesByPrice.get(vehicle.getPrice());
+        if (vehicles == null || vehicles.remove(vehicle) == null) {
+            return;
+        }
+        size--;
+        if (vehicles.isEmpty()) {
+            vehiclesByPrice.remove(vehicle.getPrice());
+        }
+    }
+
+    /**
+     * Returns the vehicles priced from min to max, both included, with their owners, cheapest first.
+     * The vehicles are read lazily, as the stream is consumed.
+     */
+    public Stream<Map.Entry<Vehicle, User>> findInRange(double min, double max) {
+        if (!(min <= max)) {
+            return Stream.empty();
+        }
+        return vehiclesByPrice.subMap(min, true, max, true)
+                .values()
+                .stream()
+                .flatMap(vehicles -> vehicles.entrySet().stream());
+    }
+
+    /**
+     * Returns the price summary of every group with at least one vehicle. Types are listed in their
+     * declaration order, makes and models alphabetically. Makes and models are matched ignoring case
+     * and named as written for the first vehicle added of the group. Prices are summed in whole cents, so totals are exact.
+     */
+    public List<PriceSummary> summarizePrices(VehicleGrouping grouping) {
+        switch (grouping) {
+            case TYPE:
+                Map<VehicleType, PriceAggregate> byType = new EnumMap<>(VehicleType.class);
+                for (Map<Vehicle, User> vehicles : vehiclesByPrice.values()) {
+                    for (Vehicle vehicle : vehicles.keySet()) {
+                        byType.computeIfAbsent(vehicle.getType(), type -> new PriceAggregate(type.toString())).add(vehicle);
+                    }
+                }
+                return toSummaries(byType.values());
+            case MAKE:
+                return sortByGroup(summarize(Vehicle::getMake));
+            case MODEL:
+                return sortByGroup(summarize(Vehicle::getModel));
+            default:
+                throw new IllegalArgumentException();
+        }
+    }
+
+    private List<PriceSummary> summarize(Function<Vehicle, String> groupOf) {
+        // Grouped by the exact value first, which is one lookup of a pooled string with a cached hash per vehicle.
+        Map<String, PriceAggregate> byValue = new HashMap<>();
+        for (Map<Vehicle, User> vehicles : vehiclesByPrice.values()) {
+            for (Vehicle vehicle : vehicles.keySet()) {
+                byValue.computeIfAbsent(groupOf.apply(vehicle), PriceAggregate::new).add(vehicle);
+            }
+        }
+        Map<String, PriceAggregate> byGroup = new HashMap<>();
+        for (PriceAggregate aggregate : byValue.values()) {
+            byGroup.merge(aggregate.name.toLowerCase(Locale.ROOT), aggregate, PriceAggregate::merge);
+        }
+        return toSummaries(byGroup.values());
+    }
+
+    private static List<PriceSummary> toSummaries(Collection<PriceAggregate> aggregates) {
+        List<PriceSummary> summaries = new ArrayList<>(aggregates.size());
+        for (PriceAggregate aggregate : aggregates) {
+            summaries.add(aggregate.toSummary());
+        }
+        return summaries;
+    }
+
+    private static List<PriceSummary> sortByGroup(List<PriceSummary> summaries) {
+        summaries.sort((first, second) -> first.getGroup().compareToIgnoreCase(second.getGroup()));
+        return summaries;
+    }
+
+    private static class PriceAggregate {
+
+        private String name;
+        private long firstId;
+        private long count;
+        private long sum;
+        private long min;
+        private long max;
+
+        private PriceAggregate(String name) {
+            this.name = name;
+            this.firstId = Long.MAX_VALUE;
+            this.min = Long.MAX_VALUE;
+            this.max = Long.MIN_VALUE;
+        }
+
+        private void add(Vehicle vehicle) {
+            long price = vehicle.getPriceCents();
+            firstId = Math.min(firstId, vehicle.getId());
+            count++;
+            sum += price;
+            min = Math.min(min, price);
+            max = Math.max(max, price);
+        }
+
+        private PriceAggregate merge(PriceAggregate other) {
+            if (other.firstId < firstId) {
+                name = other.name;
+                firstId = other.firstId;
+            }
+            count += other.count;
+            sum += other.sum;
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+            return this;
+        }
+
+        private PriceSummary toSummary() {
+            return new PriceSummary(name, count, sum / CENTS_PER_DOLLAR, min / CENTS_PER_DOLLAR, max / CENTS_PER_DOLLAR);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.company.oop.dealership.core;
+
+import com.company.oop.dealership.models.contracts.User;
+import com.company.oop.dealership.models.contracts.Vehicle;
+import com.company.oop.dealership.models.enums.VehicleType;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Secondary index of all vehicles in the dealership by type, make and model.
+ * Every vehicle is filed under all eight combinations of its type, make and model with "any"
+ * in their place, so every search is a single lookup, whatever criteria are left out,
+ * and costs only as much as the vehicles it returns. Make and model are matched ignoring case.
+ */
+public class VehicleSearchIndex {
+
+    private static final String ANY = "";
+    private static final char KEY_SEPARATOR = '\n';
+
+    private final Map<String, Map<Vehicle, User>> vehiclesByKey;
+
+    public VehicleSearchIndex() {
+        this.vehiclesByKey = new HashMap<>();
+    }
+
+    public void add(User owner, Vehicle vehicle) {
+        for (String key : keysOf(vehicle)) {
+            vehiclesByKey.computeIfAbsent(key, k -> new LinkedHashMap<>()).put(vehicle, owner);
+        }
+    }
+
+    public void remove(Vehicle vehicle) {
+        for (String key : keysOf(vehicle)) {
+            Map<Vehicle, User> vehicles = vehiclesByKey.get(key);
+            if (vehicles != null && vehicles.remove(vehicle) != null && vehicles.isEmpty()) {
+                vehiclesByKey.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Returns the matching vehicles with their owners, in the order the vehicles were added.
+     * A null criterion matches any vehicle.
+     */
+    public Map<Vehicle, User> find(VehicleType type, String make, String model) {
+        Map<Vehicle, User> vehicles = vehiclesByKey.get(toKey(
+                type == null ? ANY : type.name(),
+                make == null ? ANY : normalize(make),
+                model == null ? ANY : normalize(model)));
+        return vehicles == null ? Collections.emptyMap() : Collections.unmodifiableMap(vehicles);
+    }
+
+    private static String[] keysOf(Vehicle vehicle) {
+        String type = vehicle.getType().name();
+        String make = normalize(vehicle.getMake());
+        String model = normalize(vehicle.getModel());
+        return new String[]{
+                toKey(type, make, model),
+                toKey(type, make, ANY),
+                toKey(type, ANY, model),
+                toKey(type, ANY, ANY),
+                toKey(ANY, make, model),
+                toKey(ANY, make, ANY),
+                toKey(ANY, ANY, model),
+                toKey(ANY, ANY, ANY)
+        };
+    }
+
+    private static String toKey(String type, String make, String model) {
+        return type + KEY_SEPARATOR + make + KEY_SEPARATOR + model;
+    }
+
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -4,6 +4,10 @@ import com.company.oop.dealership.commands.contracts.Command;
 
 public interface CommandFactory {
 
-    Command createCommandFromCommandName(String commandTypeAsString, VehicleDealershipRepository vehicleDealershipRepository);
+    /**
+     * @param commandName The name of the command, in any letter case
+     * @return The command with that name, or null if there is no such command
+     */
+    Command findCommand(String commandName);
 
 }
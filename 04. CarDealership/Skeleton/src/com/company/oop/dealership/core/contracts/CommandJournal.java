@@ -0,0 +1,91 @@
+package com.company.oop.dealership.core.contracts;
+
+import com.company.oop.dealership.commands.enums.CommandType;
+
+import java.util.List;
+
+/**
+ * Append-only log of the commands that changed the repository, replayed at startup to rebuild it.
+ */
+public interface CommandJournal extends AutoCloseable {
+
+    /**
+     * Journal of a repository that is not persisted. Nothing is recorded and everything is durable.
+     */
+    CommandJournal DISABLED = new CommandJournal() {
+        @Override
+        public long append(CommandType commandType, String actor, List<String> parameters) {
+            return 0;
+        }
+
+        @Override
+        public long getLastSequence() {
+            return 0;
+        }
+
+        @Override
+        public void awaitDurable(long sequence) {
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public long getRecordCount() {
+            return 0;
+        }
+
+        @Override
+        public long getSyncCount() {
+            return 0;
+        }
+
+        @Override
+        public int getMaxBatchSize() {
+            return 0;
+        }
+
+        @Override
+        public long getRecordsPerSecond() {
+            return 0;
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    /**
+     * Records a successful command executed by the given user, or by nobody when the actor is null.
+     * Returns the sequence number of the record. The record becomes durable later, see {@link #awaitDurable(long)}.
+     */
+    long append(CommandType commandType, String actor, List<String> parameters);
+
+    /**
+     * Returns the sequence number of the last record, counting the records the journal held when it was opened.
+     */
+    long getLastSequence();
+
+    /**
+     * Blocks until the record with the given sequence number and all before it are forced to the disk.
+     */
+    void awaitDurable(long sequence);
+
+    boolean isEnabled();
+
+    /**
+     * Returns the number of records appended since the journal was opened.
+     */
+    long getRecordCount();
+
+    long getSyncCount();
+
+    int getMaxBatchSize();
+
+    long getRecordsPerSecond();
+
+    @Override
+    void close();
+}
@@ -0,0 +1,16 @@
+package com.company.oop.dealership.core.contracts;
+
+import com.company.oop.dealership.commands.enums.CommandType;
+
+public interface CommandStatistics {
+
+    void record(CommandType commandType, long elapsedNanos, boolean succeeded);
+
+    long getSuccessCount(CommandType commandType);
+
+    long getFailureCount(CommandType commandType);
+
+    long getLatencyPercentile(CommandType commandType, double percentile);
+
+    long getMaxLatency(CommandType commandType);
+}
@@ -0,0 +1,15 @@
+package com.company.oop.dealership.core.contracts;
+
+import com.company.oop.dealership.models.contracts.User;
+
+public interface Session {
+
+    User getLoggedInUser();
+
+    boolean hasLoggedInUser();
+
+    void login(User user);
+
+    void logout();
+
+}
@@ -1,9 +1,15 @@
 package com.company.oop.dealership.core.contracts;
 
+import com.company.oop.dealership.core.PriceSummary;
+import com.company.oop.dealership.core.StringPool;
 import com.company.oop.dealership.models.contracts.*;
 import com.company.oop.dealership.models.enums.UserRole;
+import com.company.oop.dealership.models.enums.VehicleGrouping;
+import com.company.oop.dealership.models.enums.VehicleType;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 public interface VehicleDealershipRepository {
 
@@ -15,6 +21,18 @@ public interface VehicleDealershipRepository {
 
     User findUserByUsername(String username);
 
+    Map<Vehicle, User> findVehicles(VehicleType type, String make, String model);
+
+    Stream<Map.Entry<Vehicle, User>> findVehiclesInPriceRange(double min, double max);
+
+    List<PriceSummary> summarizePrices(VehicleGrouping grouping);
+
+    Map.Entry<Vehicle, User> findVehicleById(long id);
+
+    Map.Entry<Comment, Vehicle> findCommentById(long id);
+
+    Map<Comment, Vehicle> findCommentsByAuthor(String author);
+
     Car createCar(String make, String model, double price, int seats);
 
     Motorcycle createMotorcycle(String make, String model, double price, String category);
@@ -25,6 +43,39 @@ public interface VehicleDealershipRepository {
 
     Comment createComment(String content, String author);
 
+    /**
+     * Returns the biggest vehicle id given so far, also to vehicles removed since.
+     */
+    long getLastVehicleId();
+
+    /**
+     * Makes vehicles added from now on get ids after the given one, e.g. the last id given before a restart.
+     */
+    void reserveVehicleIds(long lastId);
+
+    /**
+     * Returns the biggest comment id given so far, also to comments removed since.
+     */
+    long getLastCommentId();
+
+    /**
+     * Makes new comments get ids after the given one, e.g. the last id given before a restart.
+     */
+    void reserveCommentIds(long lastId);
+
+    /**
+     * Returns the estimated size of the index the price searches and statistics are read from.
+     */
+    long getPriceIndexBytes();
+
+    List<StringPool> getStringPools();
+
+    CommandStatistics getCommandStatistics();
+
+    CommandJournal getCommandJournal();
+
+    void setCommandJournal(CommandJournal commandJournal);
+
     boolean hasLoggedInUser();
 
     void login(User user);
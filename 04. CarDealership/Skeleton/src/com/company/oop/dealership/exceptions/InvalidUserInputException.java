@@ -0,0 +1,20 @@
+package com.company.oop.dealership.exceptions;
+
+/**
+ * Thrown for expected user errors - invalid parameters, unknown users, missing permissions.
+ * Only its message is ever printed, so no stack trace is captured, which keeps rejecting
+ * invalid input about as cheap as executing a valid command.
+ */
+public class InvalidUserInputException extends IllegalArgumentException {
+
+    private static final long serialVersionUID = 1L;
+
+    public InvalidUserInputException(String message) {
+        super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
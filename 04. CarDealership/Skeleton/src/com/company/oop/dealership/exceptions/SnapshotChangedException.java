@@ -0,0 +1,14 @@
+package com.company.oop.dealership.exceptions;
+
+/**
+ * Thrown when a snapshot file no longer has the content it had when it was loaded before,
+ * so a journaled load of it cannot be replayed.
+ */
+public class SnapshotChangedException extends IllegalStateException {
+
+    private static final long serialVersionUID = 1L;
+
+    public SnapshotChangedException(String message) {
+        super(message);
+    }
+}
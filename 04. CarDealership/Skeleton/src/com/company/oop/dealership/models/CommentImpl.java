@@ -1,8 +1,14 @@
 package com.company.oop.dealership.models;
 
+import com.company.oop.dealership.models.contracts.Comment;
+import com.company.oop.dealership.utils.FormattingHelpers;
+import com.company.oop.dealership.utils.ValidationHelpers;
+
+import java.io.IOException;
+
 import static java.lang.String.format;
 
-public class CommentImpl {
+public class CommentImpl implements Comment {
 
     public static final int CONTENT_LEN_MIN = 3;
     public static final int CONTENT_LEN_MAX = 200;
@@ -10,6 +16,59 @@ public class CommentImpl {
             "Content must be between %d and %d characters long!",
             CONTENT_LEN_MIN,
             CONTENT_LEN_MAX);
+    private static final String COMMENT_SEPARATOR = "----------";
+    private static final String AUTHOR_LABEL = "User: ";
+
+    private volatile long id;
+    private final String content;
+    private final String author;
+
+    public CommentImpl(String content, String author) {
+        this(NO_ID, content, author);
+    }
+
+    public CommentImpl(long id, String content, String author) {
+        validateContent(content);
+        this.id = id;
+        this.content = content;
+        this.author = author;
+    }
+
+    @Override
+    public long getId() {
+        return id;
+    }
+
+    @Override
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    @Override
+    public String getContent() {
+        return content;
+    }
+
+    @Override
+    public String getAuthor() {
+        return author;
+    }
+
+    @Override
+    public void render(Appendable output) throws IOException {
+        String newLine = System.lineSeparator();
+        output.append(COMMENT_SEPARATOR).append(newLine);
+        output.append(content).append(newLine);
+        output.append(AUTHOR_LABEL).append(author).append(newLine);
+        output.append(COMMENT_SEPARATOR);
+    }
+
+    @Override
+    public String toString() {
+        return FormattingHelpers.renderToString(this);
+    }
 
-    //TODO
+    private static void validateContent(String content) {
+        ValidationHelpers.validateIntRange(content.length(), CONTENT_LEN_MIN, CONTENT_LEN_MAX, CONTENT_LEN_ERR);
+    }
 }
@@ -1,33 +1,53 @@
 package com.company.oop.dealership.models;
 
+import com.company.oop.dealership.models.contracts.Motorcycle;
+import com.company.oop.dealership.models.enums.VehicleType;
+import com.company.oop.dealership.utils.ValidationHelpers;
+
+import java.io.IOException;
+
 import static java.lang.String.format;
 
-public class MotorcycleImpl {
-
-    public static final int MAKE_NAME_LEN_MIN = 2;
-    public static final int MAKE_NAME_LEN_MAX = 15;
-    private static final String MAKE_NAME_LEN_ERR = format(
-            "Make must be between %s and %s characters long!",
-            MAKE_NAME_LEN_MIN,
-            MAKE_NAME_LEN_MAX);
-    public static final int MODEL_NAME_LEN_MIN = 1;
-    public static final int MODEL_NAME_LEN_MAX = 15;
-    private static final String MODEL_NAME_LEN_ERR = format(
-            "Model must be between %s and %s characters long!",
-            MODEL_NAME_LEN_MIN,
-            MODEL_NAME_LEN_MAX);
-    public static final double PRICE_VAL_MIN = 0;
-    public static final double PRICE_VAL_MAX = 1000000;
-    private static final String PRICE_VAL_ERR = format(
-            "Price must be between %.1f and %.1f!",
-            PRICE_VAL_MIN,
-            PRICE_VAL_MAX);
+public class MotorcycleImpl extends VehicleBase implements Motorcycle {
+
     public static final int CATEGORY_LEN_MIN = 3;
     public static final int CATEGORY_LEN_MAX = 10;
     private static final String CATEGORY_LEN_ERR = format(
             "Category must be between %d and %d characters long!",
             CATEGORY_LEN_MIN,
             CATEGORY_LEN_MAX);
+    private static final String CATEGORY_LABEL = "Category: ";
+    private static final int MOTORCYCLE_WHEELS = 2;
+
+    private final String category;
+
+    public MotorcycleImpl(String make, String model, double price, String category) {
+        super(make, model, price);
+        validateCategory(category);
+        this.category = category;
+    }
+
+    @Override
+    public String getCategory() {
+        return category;
+    }
+
+    @Override
+    public VehicleType getType() {
+        return VehicleType.MOTORCYCLE;
+    }
+
+    @Override
+    public int getWheels() {
+        return MOTORCYCLE_WHEELS;
+    }
+
+    @Override
+    protected void renderAdditionalInfo(Appendable output) throws IOException {
+        output.append(CATEGORY_LABEL).append(category);
+    }
 
-    //TODO
+    private static void validateCategory(String category) {
+        ValidationHelpers.validateIntRange(category.length(), CATEGORY_LEN_MIN, CATEGORY_LEN_MAX, CATEGORY_LEN_ERR);
+    }
 }
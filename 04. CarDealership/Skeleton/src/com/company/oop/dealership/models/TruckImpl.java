@@ -1,33 +1,54 @@
 package com.company.oop.dealership.models;
 
+import com.company.oop.dealership.models.contracts.Truck;
+import com.company.oop.dealership.models.enums.VehicleType;
+import com.company.oop.dealership.utils.ValidationHelpers;
+
+import java.io.IOException;
+
 import static java.lang.String.format;
 
-public class TruckImpl {
-
-    public static final int MAKE_NAME_LEN_MIN = 2;
-    public static final int MAKE_NAME_LEN_MAX = 15;
-    private static final String MAKE_NAME_LEN_ERR = format(
-            "Make must be between %s and %s characters long!",
-            MAKE_NAME_LEN_MIN,
-            MAKE_NAME_LEN_MAX);
-    public static final int MODEL_NAME_LEN_MIN = 1;
-    public static final int MODEL_NAME_LEN_MAX = 15;
-    private static final String MODEL_NAME_LEN_ERR = format(
-            "Model must be between %s and %s characters long!",
-            MODEL_NAME_LEN_MIN,
-            MODEL_NAME_LEN_MAX);
-    public static final double PRICE_VAL_MIN = 0;
-    public static final double PRICE_VAL_MAX = 1000000;
-    private static final String PRICE_VAL_ERR = format(
-            "Price must be between %.1f and %.1f!",
-            PRICE_VAL_MIN,
-            PRICE_VAL_MAX);
+public class TruckImpl extends VehicleBase implements Truck {
+
     public static final int WEIGHT_CAP_MIN = 1;
     public static final int WEIGHT_CAP_MAX = 100;
     private static final String WEIGHT_CAP_ERR = format(
             "Weight capacity must be between %d and %d!",
             WEIGHT_CAP_MIN,
             WEIGHT_CAP_MAX);
+    private static final String WEIGHT_CAPACITY_LABEL = "Weight Capacity: ";
+    private static final char WEIGHT_UNIT = 't';
+    private static final int TRUCK_WHEELS = 8;
+
+    private final int weightCapacity;
+
+    public TruckImpl(String make, String model, double price, int weightCapacity) {
+        super(make, model, price);
+        validateWeightCapacity(weightCapacity);
+        this.weightCapacity = weightCapacity;
+    }
+
+    @Override
+    public int getWeightCapacity() {
+        return weightCapacity;
+    }
+
+    @Override
+    public VehicleType getType() {
+        return VehicleType.TRUCK;
+    }
+
+    @Override
+    public int getWheels() {
+        return TRUCK_WHEELS;
+    }
+
+    @Override
+    protected void renderAdditionalInfo(Appendable output) throws IOException {
+        output.append(WEIGHT_CAPACITY_LABEL).append(String.valueOf(weightCapacity)).append(WEIGHT_UNIT);
+    }
 
-    //TODO
+    private static void validateWeightCapacity(int weightCapacity) {
+        ValidationHelpers.validateIntRange(weightCapacity, WEIGHT_CAP_MIN, WEIGHT_CAP_MAX, WEIGHT_CAP_ERR);
+    }
 }
@@ -1,8 +1,24 @@
 package com.company.oop.dealership.models;
 
+import com.company.oop.dealership.exceptions.InvalidUserInputException;
+import com.company.oop.dealership.models.contracts.Comment;
+import com.company.oop.dealership.models.contracts.InventoryListener;
+import com.company.oop.dealership.models.contracts.User;
+import com.company.oop.dealership.models.contracts.Vehicle;
+import com.company.oop.dealership.models.enums.UserRole;
+import com.company.oop.dealership.utils.FormattingHelpers;
+import com.company.oop.dealership.utils.RenderCache;
+import com.company.oop.dealership.utils.ValidationHelpers;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
 import static java.lang.String.format;
 
-public class UserImpl {
+public class UserImpl implements User {
 
     public static final int USERNAME_LEN_MIN = 2;
     public static final int USERNAME_LEN_MAX = 20;
@@ -45,7 +61,254 @@ public class UserImpl {
     private final static String USER_HEADER = "--USER %s--";
     private static final int NORMAL_ROLE_VEHICLE_LIMIT = 5;
 
-    //TODO
+    private final String username;
+    private final String firstName;
+    private final String lastName;
+    private final String password;
+    private final UserRole userRole;
+    // Guarded by this user's lock, which also makes the vehicle limit check atomic.
+    private final List<Vehicle> vehicles;
+    // The same vehicles ordered by id for paging, or null until it is needed. They are usually added in the order
+    // of their ids, but a vehicle loaded with an id taken by another one is given a new id when the user is added.
+    private List<Vehicle> vehiclesById;
+    // Guarded by this user's lock, like the rendered vehicles kept in the slot.
+    private long version;
+    private RenderCache.Slot renderSlot;
+    // Notified while holding the lock of the vehicle that changed, which orders removing a vehicle
+    // with adding and removing its comments by other users. The vehicle is always locked before the indexes.
+    private InventoryListener inventoryListener;
+
+    public UserImpl(String username, String firstName, String lastName, String password, UserRole userRole) {
+        validateUsername(username);
+        validateFirstName(firstName);
+        validateLastName(lastName);
+        validatePassword(password);
+        this.username = username;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.password = password;
+        this.userRole = userRole;
+        this.vehicles = new ArrayList<>();
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public String getFirstName() {
+        return firstName;
+    }
+
+    @Override
+    public String getLastName() {
+        return lastName;
+    }
+
+    @Override
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public UserRole getRole() {
+        return userRole;
+    }
+
+    @Override
+    public synchronized List<Vehicle> getVehicles() {
+        return new ArrayList<>(vehicles);
+    }
+
+    @Override
+    public synchronized int getVehicleCount() {
+        return vehicles.size();
+    }
+
+    @Override
+    public synchronized Vehicle getVehicle(int index) {
+        return vehicles.get(index);
+    }
+
+    @Override
+    public synchronized void addVehicle(Vehicle vehicle) {
+        if (isAdmin()) {
+            throw new InvalidUserInputException(ADMIN_CANNOT_ADD_VEHICLES);
+        }
+        if (userRole == UserRole.NORMAL && vehicles.size() >= NORMAL_ROLE_VEHICLE_LIMIT) {
+            throw new InvalidUserInputException(format(NOT_AN_VIP_USER_VEHICLES_ADD, NORMAL_ROLE_VEHICLE_LIMIT));
+        }
+        vehicles.add(vehicle);
+        version = RenderCache.nextVersion();
+        if (inventoryListener != null) {
+            synchronized (vehicle) {
+                inventoryListener.vehicleAdded(this, vehicle);
+            }
+        }
+        if (inventoryListener == null || vehiclesById == null) {
+            // Without a listener the vehicle may still be given another id when the user is added.
+            vehiclesById = null;
+        } else {
+            vehiclesById.add(findFirstVehicleById(vehicle.getId()), vehicle);
+        }
+    }
+
+    @Override
+    public synchronized void removeVehicle(Vehicle vehicle) {
+        if (!vehicles.remove(vehicle)) {
+            return;
+        }
+        version = RenderCache.nextVersion();
+        if (inventoryListener != null) {
+            synchronized (vehicle) {
+                inventoryListener.vehicleRemoved(this, vehicle);
+            }
+        }
+        if (vehiclesById != null) {
+            vehiclesById.remove(vehicle);
+        }
+    }
+
+    @Override
+    public synchronized void setInventoryListener(InventoryListener inventoryListener) {
+        this.inventoryListener = inventoryListener;
+        vehiclesById = null;
+    }
+
+    private synchronized InventoryListener getInventoryListener() {
+        return inventoryListener;
+    }
+
+    /**
+     * Adds the comment under the lock of the vehicle, which its owner also holds while removing it,
+     * so the comment is indexed either before the comments of a removed vehicle are dropped or not at all.
+     */
+    @Override
+    public void addComment(Comment commentToAdd, Vehicle vehicleToAddComment) {
+        InventoryListener listener = getInventoryListener();
+        synchronized (vehicleToAddComment) {
+            vehicleToAddComment.addComment(commentToAdd);
+            if (listener != null) {
+                listener.commentAdded(vehicleToAddComment, commentToAdd);
+            }
+        }
+    }
+
+    @Override
+    public void removeComment(Comment commentToRemove, Vehicle vehicleToRemoveComment) {
+        if (!commentToRemove.getAuthor().equals(username)) {
+            throw new InvalidUserInputException(YOU_ARE_NOT_THE_AUTHOR);
+        }
+        InventoryListener listener = getInventoryListener();
+        synchronized (vehicleToRemoveComment) {
+            vehicleToRemoveComment.removeComment(commentToRemove);
+            if (listener != null) {
+                listener.commentRemoved(vehicleToRemoveComment, commentToRemove);
+            }
+        }
+    }
+
+    @Override
+    public String printVehicles() {
+        return FormattingHelpers.renderToString(this::renderVehicles);
+    }
+
+    /**
+     * Appends the vehicles rendered at the newest version of this user and its vehicles, if still cached.
+     * Otherwise they are put together from the vehicles, of which only the changed ones are rendered again.
+     * The version is read before rendering, so the cached text is never older than its version.
+     */
+    @Override
+    public synchronized void renderVehicles(Appendable output) throws IOException {
+        RenderCache renderCache = RenderCache.getShared();
+        if (renderCache.getBudgetBytes() == 0) {
+            renderVehicleRange(output, 0, vehicles.size());
+            return;
+        }
+        long renderVersion = version;
+        for (Vehicle vehicle : vehicles) {
+            renderVersion = Math.max(renderVersion, vehicle.getVersion());
+        }
+        if (renderSlot == null) {
+            renderSlot = new RenderCache.Slot();
+        }
+        String text = renderCache.get(renderSlot, renderVersion);
+        if (text == null) {
+            StringBuilder builder = new StringBuilder();
+            renderVehicleRange(builder, 0, vehicles.size());
+            text = builder.toString();
+            renderCache.put(renderSlot, renderVersion, text);
+        }
+        output.append(text);
+    }
+
+    /**
+     * Renders at most count vehicles in the order of their ids, starting with the first one whose id is not less
+     * than fromId, so removing a vehicle does not shift the following pages. The first one is found by a binary
+     * search. They keep the numbers of their positions among all vehicles of the user ordered by id.
+     * Returns the id of the first vehicle left out, or {@link Vehicle#NO_ID} when the page reached the end.
+     */
+    @Override
+    public synchronized long renderVehicles(Appendable output, long fromId, int count) throws IOException {
+        if (vehiclesById == null) {
+            vehiclesById = new ArrayList<>(vehicles);
+            vehiclesById.sort(Comparator.comparingLong(Vehicle::getId));
+        }
+        int start = findFirstVehicleById(fromId);
+        int end = (int) Math.min(vehiclesById.size(), (long) start + count);
+        renderVehicleRange(output, vehiclesById, start, end);
+        return end < vehiclesById.size() ? vehiclesById.get(end).getId() : Vehicle.NO_ID;
+    }
+
+    /**
+     * Returns the position of the first vehicle in {@link #vehiclesById} whose id is not less than the given one.
+     */
+    private int findFirstVehicleById(long id) {
+        int low = 0;
+        int high = vehiclesById.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (vehiclesById.get(middle).getId() < id) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private void renderVehicleRange(Appendable output, int start, int end) throws IOException {
+        renderVehicleRange(output, vehicles, start, end);
+    }
+
+    private void renderVehicleRange(Appendable output, List<Vehicle> orderedVehicles, int start, int end)
+            throws IOException {
+        output.append(format(USER_HEADER, username));
+        if (orderedVehicles.isEmpty()) {
+            output.append(System.lineSeparator()).append(NO_VEHICLES_HEADER);
+            return;
+        }
+        for (int i = start; i < end; i++) {
+            output.append(System.lineSeparator()).append(String.valueOf(i + 1)).append(". ");
+            orderedVehicles.get(i).render(output);
+        }
+    }
+
+    @Override
+    public boolean isAdmin() {
+        return userRole == UserRole.ADMIN;
+    }
+
+    @Override
+    public void render(Appendable output) throws IOException {
+        output.append(toString());
+    }
+
+    @Override
+    public String toString() {
+        return format(USER_TO_STRING, username, firstName, lastName, userRole);
+    }
 
     @Override
     public boolean equals(Object o) {
@@ -55,4 +318,27 @@ public class UserImpl {
         return username.equals(user.username) && firstName.equals(user.firstName)
                 && lastName.equals(user.lastName) && userRole == user.userRole;
     }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(username, firstName, lastName, userRole);
+    }
+
+    private static void validateUsername(String username) {
+        ValidationHelpers.validateIntRange(username.length(), USERNAME_LEN_MIN, USERNAME_LEN_MAX, USERNAME_LEN_ERR);
+        ValidationHelpers.validatePattern(username, USERNAME_REGEX_PATTERN, USERNAME_PATTERN_ERR);
+    }
+
+    private static void validateFirstName(String firstName) {
+        ValidationHelpers.validateIntRange(firstName.length(), FIRSTNAME_LEN_MIN, FIRSTNAME_LEN_MAX, FIRSTNAME_LEN_ERR);
+    }
+
+    private static void validateLastName(String lastName) {
+        ValidationHelpers.validateIntRange(lastName.length(), LASTNAME_LEN_MIN, LASTNAME_LEN_MAX, LASTNAME_LEN_ERR);
+    }
+
+    private static void validatePassword(String password) {
+        ValidationHelpers.validateIntRange(password.length(), PASSWORD_LEN_MIN, PASSWORD_LEN_MAX, PASSWORD_LEN_ERR);
+        ValidationHelpers.validatePattern(password, PASSWORD_REGEX_PATTERN, PASSWORD_PATTERN_ERR);
+    }
 }
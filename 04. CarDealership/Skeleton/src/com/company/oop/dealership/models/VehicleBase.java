@@ -0,0 +1,226 @@
+package com.company.oop.dealership.models;
+
+import com.company.oop.dealership.exceptions.InvalidUserInputException;
+import com.company.oop.dealership.models.contracts.Comment;
+import com.company.oop.dealership.models.contracts.Vehicle;
+import com.company.oop.dealership.utils.FormattingHelpers;
+import com.company.oop.dealership.utils.RenderCache;
+import com.company.oop.dealership.utils.ValidationHelpers;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.lang.String.format;
+
+public abstract class VehicleBase implements Vehicle {
+
+    public static final int MAKE_NAME_LEN_MIN = 2;
+    public static final int MAKE_NAME_LEN_MAX = 15;
+    private static final String MAKE_NAME_LEN_ERR = format(
+            "Make must be between %s and %s characters long!",
+            MAKE_NAME_LEN_MIN,
+            MAKE_NAME_LEN_MAX);
+    public static final int MODEL_NAME_LEN_MIN = 1;
+    public static final int MODEL_NAME_LEN_MAX = 15;
+    private static final String MODEL_NAME_LEN_ERR = format(
+            "Model must be between %s and %s characters long!",
+            MODEL_NAME_LEN_MIN,
+            MODEL_NAME_LEN_MAX);
+    public static final double PRICE_VAL_MIN = 0;
+    public static final double PRICE_VAL_MAX = 1000000;
+    private static final String PRICE_VAL_ERR = format(
+            "Price must be between %.1f and %.1f!",
+            PRICE_VAL_MIN,
+            PRICE_VAL_MAX);
+    private static final String PRICE_CENTS_ERR = "Price cannot have more than two decimal places!";
+
+    private static final String COMMENTS_HEADER = "--COMMENTS--";
+    private static final String NO_COMMENTS_HEADER = "--NO COMMENTS--";
+    private static final String MAKE_LABEL = "Make: ";
+    private static final String MODEL_LABEL = "Model: ";
+    private static final String WHEELS_LABEL = "Wheels: ";
+    private static final String PRICE_LABEL = "Price: $";
+    private static final double CENTS_PER_DOLLAR = 100;
+    // Far more than the error of parsing a price with two decimal places, far less than a fraction of a cent.
+    private static final double MAX_CENTS_ERROR = 1e-6;
+    private static final int INITIAL_COMMENT_CAPACITY = 4;
+
+    // Kept small, since there can be millions of vehicles: the type is told by the subclass,
+    // the price is kept in whole cents and the comments are allocated with the first one.
+    private final String make;
+    private final String model;
+    private final long priceCents;
+    private volatile long id;
+    // Guarded by this vehicle's lock. Kept in the order they were added, removed in O(1), null when there are none.
+    private Set<Comment> comments;
+    // Guarded by this vehicle's lock, like the rendered text kept in the slot.
+    private long version;
+    private RenderCache.Slot renderSlot;
+
+    /**
+     * The price must be in whole cents. It is rounded only to drop the error of its binary representation.
+     */
+    protected VehicleBase(String make, String model, double price) {
+        validateMake(make);
+        validateModel(model);
+        validatePrice(price);
+        this.make = make;
+        this.model = model;
+        this.priceCents = Math.round(price * CENTS_PER_DOLLAR);
+    }
+
+    @Override
+    public long getId() {
+        return id;
+    }
+
+    @Override
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    @Override
+    public String getMake() {
+        return make;
+    }
+
+    @Override
+    public String getModel() {
+        return model;
+    }
+
+    @Override
+    public double getPrice() {
+        return priceCents / CENTS_PER_DOLLAR;
+    }
+
+    @Override
+    public long getPriceCents() {
+        return priceCents;
+    }
+
+    @Override
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    @Override
+    public synchronized List<Comment> getComments() {
+        return comments == null ? new ArrayList<>() : new ArrayList<>(comments);
+    }
+
+    @Override
+    public synchronized int getCommentCount() {
+        return comments == null ? 0 : comments.size();
+    }
+
+    @Override
+    public synchronized Comment getComment(int index) {
+        if (index < 0 || index >= getCommentCount()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        Iterator<Comment> iterator = comments.iterator();
+        for (int i = 0; i < index; i++) {
+            iterator.next();
+        }
+        return iterator.next();
+    }
+
+    @Override
+    public synchronized void addComment(Comment comment) {
+        if (comments == null) {
+            comments = new LinkedHashSet<>(INITIAL_COMMENT_CAPACITY);
+        }
+        if (comments.add(comment)) {
+            version = RenderCache.nextVersion();
+        }
+    }
+
+    @Override
+    public synchronized void removeComment(Comment comment) {
+        if (comments == null || !comments.remove(comment)) {
+            return;
+        }
+        if (comments.isEmpty()) {
+            comments = null;
+        }
+        version = RenderCache.nextVersion();
+    }
+
+    /**
+     * Appends the text rendered at the current version, if it is still cached.
+     */
+    @Override
+    public synchronized void render(Appendable output) throws IOException {
+        RenderCache renderCache = RenderCache.getShared();
+        if (renderCache.getBudgetBytes() == 0) {
+            renderText(output);
+            return;
+        }
+        if (renderSlot == null) {
+            renderSlot = new RenderCache.Slot();
+        }
+        String text = renderCache.get(renderSlot, version);
+        if (text == null) {
+            StringBuilder builder = new StringBuilder();
+            renderText(builder);
+            text = builder.toString();
+            renderCache.put(renderSlot, version, text);
+        }
+        output.append(text);
+    }
+
+    private void renderText(Appendable output) throws IOException {
+        String newLine = System.lineSeparator();
+        output.append(getType().toString()).append(':').append(newLine);
+        output.append(MAKE_LABEL).append(make).append(newLine);
+        output.append(MODEL_LABEL).append(model).append(newLine);
+        output.append(WHEELS_LABEL).append(String.valueOf(getWheels())).append(newLine);
+        output.append(PRICE_LABEL);
+        FormattingHelpers.appendPrice(output, priceCents);
+        output.append(newLine);
+        renderAdditionalInfo(output);
+        output.append(newLine);
+        renderComments(output);
+    }
+
+    @Override
+    public String toString() {
+        return FormattingHelpers.renderToString(this);
+    }
+
+    protected abstract void renderAdditionalInfo(Appendable output) throws IOException;
+
+    private void renderComments(Appendable output) throws IOException {
+        if (comments == null) {
+            output.append(NO_COMMENTS_HEADER);
+            return;
+        }
+        output.append(COMMENTS_HEADER).append(System.lineSeparator());
+        for (Comment comment : comments) {
+            comment.render(output);
+            output.append(System.lineSeparator());
+        }
+        output.append(COMMENTS_HEADER);
+    }
+
+    private static void validateMake(String make) {
+        ValidationHelpers.validateIntRange(make.length(), MAKE_NAME_LEN_MIN, MAKE_NAME_LEN_MAX, MAKE_NAME_LEN_ERR);
+    }
+
+    private static void validateModel(String model) {
+        ValidationHelpers.validateIntRange(model.length(), MODEL_NAME_LEN_MIN, MODEL_NAME_LEN_MAX, MODEL_NAME_LEN_ERR);
+    }
+
+    private static void validatePrice(double price) {
+        ValidationHelpers.validateDecimalRange(price, PRICE_VAL_MIN, PRICE_VAL_MAX, PRICE_VAL_ERR);
+        double cents = price * CENTS_PER_DOLLAR;
+        if (Math.abs(cents - Math.rint(cents)) > MAX_CENTS_ERROR) {
+            throw new InvalidUserInputException(PRICE_CENTS_ERR);
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package com.company.oop.dealership.models.contracts;
 
-public interface Car {
+public interface Car extends Vehicle {
 
     int getSeats();
 
@@ -1,6 +1,15 @@
 package com.company.oop.dealership.models.contracts;
 
-public interface Comment {
+public interface Comment extends Renderable {
+
+    long NO_ID = 0;
+
+    /**
+     * Returns the id the repository gave the comment, or {@link #NO_ID} for comments created outside it.
+     */
+    long getId();
+
+    void setId(long id);
 
     String getContent();
 
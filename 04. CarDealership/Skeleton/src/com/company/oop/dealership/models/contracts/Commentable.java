@@ -6,4 +6,8 @@ public interface Commentable {
 
     List<Comment> getComments();
 
+    int getCommentCount();
+
+    Comment getComment(int index);
+
 }
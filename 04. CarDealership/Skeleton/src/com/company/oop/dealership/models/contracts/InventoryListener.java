@@ -0,0 +1,13 @@
+package com.company.oop.dealership.models.contracts;
+
+public interface InventoryListener {
+
+    void vehicleAdded(User owner, Vehicle vehicle);
+
+    void vehicleRemoved(User owner, Vehicle vehicle);
+
+    void commentAdded(Vehicle vehicle, Comment comment);
+
+    void commentRemoved(Vehicle vehicle, Comment comment);
+
+}
@@ -1,6 +1,6 @@
 package com.company.oop.dealership.models.contracts;
 
-public interface Motorcycle {
+public interface Motorcycle extends Vehicle {
 
     String getCategory();
 
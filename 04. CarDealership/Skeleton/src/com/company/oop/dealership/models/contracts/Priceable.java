@@ -4,4 +4,9 @@ public interface Priceable {
 
     double getPrice();
 
+    /**
+     * Returns the price in whole cents, the form it is kept in.
+     */
+    long getPriceCents();
+
 }
@@ -0,0 +1,14 @@
+package com.company.oop.dealership.models.contracts;
+
+import java.io.IOException;
+
+public interface Renderable {
+
+    /**
+     * Writes the text representation straight into the given sink, without building it as one String first.
+     *
+     * @param output The sink to write to
+     */
+    void render(Appendable output) throws IOException;
+
+}
@@ -1,6 +1,6 @@
 package com.company.oop.dealership.models.contracts;
 
-public interface Truck {
+public interface Truck extends Vehicle {
 
     int getWeightCapacity();
 
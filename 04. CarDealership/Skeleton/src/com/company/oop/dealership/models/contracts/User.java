@@ -2,9 +2,10 @@ package com.company.oop.dealership.models.contracts;
 
 import com.company.oop.dealership.models.enums.UserRole;
 
+import java.io.IOException;
 import java.util.List;
 
-public interface User {
+public interface User extends Renderable {
 
     String getUsername();
 
@@ -18,16 +19,26 @@ public interface User {
 
     List<Vehicle> getVehicles();
 
+    int getVehicleCount();
+
+    Vehicle getVehicle(int index);
+
     void addVehicle(Vehicle vehicle);
 
     void removeVehicle(Vehicle vehicle);
 
+    void setInventoryListener(InventoryListener inventoryListener);
+
     void addComment(Comment commentToAdd, Vehicle vehicleToAddComment);
 
     void removeComment(Comment commentToRemove, Vehicle vehicleToRemoveComment);
 
     String printVehicles();
 
+    void renderVehicles(Appendable output) throws IOException;
+
+    long renderVehicles(Appendable output, long fromId, int count) throws IOException;
+
     boolean isAdmin();
 
 }
@@ -2,7 +2,22 @@ package com.company.oop.dealership.models.contracts;
 
 import com.company.oop.dealership.models.enums.VehicleType;
 
-public interface Vehicle {
+public interface Vehicle extends Commentable, Priceable, Renderable {
+
+    long NO_ID = 0;
+
+    /**
+     * Returns the id the repository gave the vehicle when it was added to a registered user,
+     * or {@link #NO_ID} before that.
+     */
+    long getId();
+
+    void setId(long id);
+
+    /**
+     * Returns the modification version, which changes whenever a comment is added or removed.
+     */
+    long getVersion();
 
     int getWheels();
 
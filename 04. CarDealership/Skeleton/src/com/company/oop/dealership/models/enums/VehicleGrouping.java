@@ -0,0 +1,21 @@
+package com.company.oop.dealership.models.enums;
+
+public enum VehicleGrouping {
+    TYPE,
+    MAKE,
+    MODEL;
+
+    @Override
+    public String toString() {
+        switch (this) {
+            case TYPE:
+                return "Type";
+            case MAKE:
+                return "Make";
+            case MODEL:
+                return "Model";
+            default:
+                throw new UnsupportedOperationException("Can't convert vehicle grouping.");
+        }
+    }
+}
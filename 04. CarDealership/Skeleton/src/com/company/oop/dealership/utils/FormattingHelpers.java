@@ -1,11 +1,63 @@
 package com.company.oop.dealership.utils;
 
+import com.company.oop.dealership.models.contracts.Renderable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 
 public class FormattingHelpers {
 
+    private static final long CENTS_PER_DOLLAR = 100;
+
     public static String removeTrailingZerosFromDouble(double number) {
         BigDecimal num = BigDecimal.valueOf(number).stripTrailingZeros();
         return num.toPlainString();
     }
+
+    /**
+     * Appends a price given in cents as dollars, the same way {@link #removeTrailingZerosFromDouble} prints
+     * the price in dollars: without trailing zeros and without a decimal point for whole dollars.
+     * The digits are appended one by one, so nothing is allocated.
+     */
+    public static void appendPrice(Appendable output, long cents) throws IOException {
+        if (cents < 0) {
+            output.append('-');
+        }
+        long dollars = Math.abs(cents / CENTS_PER_DOLLAR);
+        int fraction = (int) Math.abs(cents % CENTS_PER_DOLLAR);
+        long divisor = 1;
+        while (divisor <= dollars / 10) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            output.append((char) ('0' + dollars / divisor % 10));
+        }
+        if (fraction != 0) {
+            output.append('.').append((char) ('0' + fraction / 10));
+            if (fraction % 10 != 0) {
+                output.append((char) ('0' + fraction % 10));
+            }
+        }
+    }
+
+    public static String formatPrice(long cents) {
+        StringBuilder builder = new StringBuilder();
+        try {
+            appendPrice(builder, cents);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return builder.toString();
+    }
+
+    public static String renderToString(Renderable renderable) {
+        StringBuilder builder = new StringBuilder();
+        try {
+            renderable.render(builder);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return builder.toString();
+    }
 }
@@ -1,29 +1,86 @@
 package com.company.oop.dealership.utils;
 
+import com.company.oop.dealership.exceptions.InvalidUserInputException;
+
 public class ParsingHelpers {
     public static final String NO_SUCH_ENUM = "There is no %s in %ss.";
 
+    /**
+     * Input without a single digit is rejected without asking Double.parseDouble,
+     * since building its NumberFormatException costs more than the parsing itself.
+     * "NaN", "Infinity" and numbers too large for a double are not valid input either.
+     */
     public static double tryParseDouble(String valueToParse, String errorMessage) {
+        if (!hasDigit(valueToParse)) {
+            throw new InvalidUserInputException(errorMessage);
+        }
+        double value;
         try {
-            return Double.parseDouble(valueToParse);
+            value = Double.parseDouble(valueToParse);
         } catch (NumberFormatException e) {
-            throw new IllegalArgumentException(errorMessage);
+            throw new InvalidUserInputException(errorMessage);
+        }
+        if (!Double.isFinite(value)) {
+            throw new InvalidUserInputException(errorMessage);
         }
+        return value;
     }
 
+    /**
+     * Input that is not an optional sign followed by digits is rejected without asking Integer.parseInt,
+     * which is then left to fail only on overflow.
+     */
     public static int tryParseInt(String valueToParse, String errorMessage) {
+        if (!isSignedDigits(valueToParse)) {
+            throw new InvalidUserInputException(errorMessage);
+        }
         try {
             return Integer.parseInt(valueToParse);
         } catch (NumberFormatException e) {
-            throw new IllegalArgumentException(errorMessage);
+            throw new InvalidUserInputException(errorMessage);
         }
     }
 
-    public static <E extends Enum<E>> E tryParseEnum(String valueToParse, Class<E> type) {
+    public static long tryParseLong(String valueToParse, String errorMessage) {
+        if (!isSignedDigits(valueToParse)) {
+            throw new InvalidUserInputException(errorMessage);
+        }
         try {
-            return Enum.valueOf(type, valueToParse.replace(" ", "_").toUpperCase());
-        } catch (IllegalArgumentException e) {
-            throw new IllegalArgumentException(String.format(NO_SUCH_ENUM, valueToParse, type.getSimpleName()));
+            return Long.parseLong(valueToParse);
+        } catch (NumberFormatException e) {
+            throw new InvalidUserInputException(errorMessage);
+        }
+    }
+
+    public static <E extends Enum<E>> E tryParseEnum(String valueToParse, Class<E> type) {
+        String name = valueToParse.replace(" ", "_").toUpperCase();
+        for (E constant : type.getEnumConstants()) {
+            if (constant.name().equals(name)) {
+                return constant;
+            }
+        }
+        throw new InvalidUserInputException(String.format(NO_SUCH_ENUM, valueToParse, type.getSimpleName()));
+    }
+
+    private static boolean hasDigit(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (Character.isDigit(value.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isSignedDigits(String value) {
+        int start = !value.isEmpty() && (value.charAt(0) == '-' || value.charAt(0) == '+') ? 1 : 0;
+        if (start == value.length()) {
+            return false;
+        }
+        for (int i = start; i < value.length(); i++) {
+            if (Character.digit(value.charAt(i), 10) < 0) {
+                return false;
+            }
         }
+        return true;
     }
 }
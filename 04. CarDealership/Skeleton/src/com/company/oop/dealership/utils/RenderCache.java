@@ -0,0 +1,157 @@
+package com.company.oop.dealership.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Least recently used cache of rendered texts, kept within a memory budget.
+ * Every cached object owns a {@link Slot} holding its text and the version it was rendered at,
+ * so a lookup needs no hashing and an object that changed simply misses.
+ * Versions come from {@link #nextVersion()}, one sequence for all objects, so the newest version
+ * among a user and its vehicles changes whenever any of them does.
+ * <p>
+ * Texts are counted as two bytes per character, what they take when not all characters are Latin-1.
+ * The shared cache used by the models starts with the budget in the "dealership.renderCacheBytes"
+ * system property, or {@link #DEFAULT_BUDGET_BYTES}. A budget of 0 turns caching off, negative budgets count as 0.
+ */
+public class RenderCache {
+
+    public static final long DEFAULT_BUDGET_BYTES = 32L << 20;
+    public static final String BUDGET_PROPERTY = "dealership.renderCacheBytes";
+
+    private static final long SLOT_OVERHEAD_BYTES = 64;
+    private static final AtomicLong VERSIONS = new AtomicLong();
+    private static final RenderCache SHARED = new RenderCache(Long.getLong(BUDGET_PROPERTY, DEFAULT_BUDGET_BYTES));
+
+    // Most recently used first. Guarded by this cache's lock, like everything in the slots.
+    private final Slot head;
+    private long budgetBytes;
+    private long usedBytes;
+    private int entryCount;
+    private long hitCount;
+    private long missCount;
+
+    public RenderCache(long budgetBytes) {
+        this.head = new Slot();
+        this.head.previous = head;
+        this.head.next = head;
+        this.budgetBytes = Math.max(0, budgetBytes);
+    }
+
+    public static RenderCache getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns a version no object has had yet.
+     */
+    public static long nextVersion() {
+        return VERSIONS.incrementAndGet();
+    }
+
+    /**
+     * Returns the text cached in the slot for that version, or null when there is none.
+     */
+    public synchronized String get(Slot slot, long version) {
+        if (slot.text == null || slot.version != version) {
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        unlink(slot);
+        linkFirst(slot);
+        return slot.text;
+    }
+
+    /**
+     * Caches the text in the slot, replacing the one there, and then drops the least recently used texts
+     * until the cache fits in its budget again. A text bigger than the whole budget is not cached.
+     */
+    public synchronized void put(Slot slot, long version, String text) {
+        if (slot.text != null) {
+            remove(slot);
+        }
+        long bytes = sizeOf(text);
+        if (bytes > budgetBytes) {
+            return;
+        }
+        slot.text = text;
+        slot.version = version;
+        linkFirst(slot);
+        usedBytes += bytes;
+        entryCount++;
+        evictOverBudget();
+    }
+
+    public synchronized void setBudgetBytes(long budgetBytes) {
+        this.budgetBytes = Math.max(0, budgetBytes);
+        evictOverBudget();
+    }
+
+    public synchronized void clear() {
+        while (head.next != head) {
+            remove(head.next);
+        }
+    }
+
+    public synchronized long getBudgetBytes() {
+        return budgetBytes;
+    }
+
+    public synchronized long getUsedBytes() {
+        return usedBytes;
+    }
+
+    public synchronized int getEntryCount() {
+        return entryCount;
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    private void evictOverBudget() {
+        while (usedBytes > budgetBytes) {
+            remove(head.previous);
+        }
+    }
+
+    private void remove(Slot slot) {
+        unlink(slot);
+        usedBytes -= sizeOf(slot.text);
+        entryCount--;
+        slot.text = null;
+    }
+
+    private void linkFirst(Slot slot) {
+        slot.previous = head;
+        slot.next = head.next;
+        head.next.previous = slot;
+        head.next = slot;
+    }
+
+    private static void unlink(Slot slot) {
+        slot.previous.next = slot.next;
+        slot.next.previous = slot.previous;
+        slot.previous = null;
+        slot.next = null;
+    }
+
+    private static long sizeOf(String text) {
+        return SLOT_OVERHEAD_BYTES + 2L * text.length();
+    }
+
+    /**
+     * Place of one object's text in the cache. Objects create it when they are first rendered.
+     */
+    public static class Slot {
+
+        private String text;
+        private long version;
+        private Slot previous;
+        private Slot next;
+    }
+}
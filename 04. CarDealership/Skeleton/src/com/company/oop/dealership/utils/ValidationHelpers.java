@@ -1,5 +1,7 @@
 package com.company.oop.dealership.utils;
 
+import com.company.oop.dealership.exceptions.InvalidUserInputException;
+
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -10,19 +12,22 @@ public class ValidationHelpers {
 
     public static void validateIntRange(int value, int min, int max, String message) {
         if (value < min || value > max) {
-            throw new IllegalArgumentException(message);
+            throw new InvalidUserInputException(message);
         }
     }
 
+    /**
+     * NaN is outside every range.
+     */
     public static void validateDecimalRange(double value, double min, double max, String message) {
-        if (value < min || value > max) {
-            throw new IllegalArgumentException(message);
+        if (!(value >= min && value <= max)) {
+            throw new InvalidUserInputException(message);
         }
     }
 
     public static void validateArgumentsCount(List<String> list, int expectedNumberOfParameters) {
         if (list.size() < expectedNumberOfParameters) {
-            throw new IllegalArgumentException(
+            throw new InvalidUserInputException(
                     String.format(INVALID_NUMBER_OF_ARGUMENTS, expectedNumberOfParameters, list.size())
             );
         }
@@ -32,7 +37,7 @@ public class ValidationHelpers {
         Pattern patternToMatch = Pattern.compile(pattern, Pattern.CASE_INSENSITIVE);
         Matcher matcher = patternToMatch.matcher(value);
         if (!matcher.matches()) {
-            throw new IllegalArgumentException(message);
+            throw new InvalidUserInputException(message);
         }
     }
 }
@@ -82,4 +82,37 @@ public class AddCommentTests {
         Assertions.assertEquals(VALID_CONTENT, comment.getContent());
         Assertions.assertEquals(user.getUsername(), comment.getAuthor());
     }
+
+    @Test
+    public void should_CommentVehicleById_When_InputIsValid() {
+        // Arrange
+        user.addVehicle(initializeTestTruck());
+        user.addVehicle(initializeTestTruck());
+        long secondId = user.getVehicle(1).getId();
+
+        List<String> params = List.of(
+                VALID_CONTENT,
+                user.getUsername(),
+                "#" + secondId);
+
+        // Act
+        addCommentsCommand.execute(params);
+
+        //Assert
+        Assertions.assertEquals(0, user.getVehicle(0).getCommentCount());
+        Assertions.assertEquals(1, repository.findVehicleById(secondId).getKey().getCommentCount());
+    }
+
+    @Test
+    public void should_ThrowException_When_VehicleIdDoesNotExist() {
+        // Arrange
+        user.addVehicle(initializeTestTruck());
+        List<String> params = List.of(
+                VALID_CONTENT,
+                user.getUsername(),
+                "#" + (user.getVehicle(0).getId() + 1));
+
+        // Act, Assert
+        Assertions.assertThrows(IllegalArgumentException.class, () -> addCommentsCommand.execute(params));
+    }
 }
@@ -0,0 +1,111 @@
+package com.company.oop.dealership.commands;
+
+import com.company.oop.dealership.core.VehicleDealershipRepositoryImpl;
+import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
+import com.company.oop.dealership.models.contracts.User;
+import com.company.oop.dealership.models.contracts.Vehicle;
+import com.company.oop.dealership.models.enums.UserRole;
+import com.company.oop.dealership.models.enums.VehicleType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FindVehiclesTests {
+
+    private VehicleDealershipRepository repository;
+    private FindVehiclesCommand findVehiclesCommand;
+    private User pesho;
+    private User gosho;
+    private Vehicle peshoVectra;
+    private Vehicle peshoTruck;
+    private Vehicle goshoAstra;
+
+    @BeforeEach
+    public void before() {
+        repository = new VehicleDealershipRepositoryImpl();
+        findVehiclesCommand = new FindVehiclesCommand(repository);
+
+        pesho = repository.createUser("pesho", "Petar", "Petrov", "123456", UserRole.VIP);
+        peshoVectra = repository.createCar("Opel", "Vectra", 5000, 5);
+        pesho.addVehicle(peshoVectra);
+        repository.addUser(pesho);
+        peshoTruck = repository.createTruck("Volvo", "FH16", 120000, 40);
+        pesho.addVehicle(peshoTruck);
+
+        gosho = repository.createUser("gosho", "Georgi", "Georgiev", "123456", UserRole.NORMAL);
+        repository.addUser(gosho);
+        goshoAstra = repository.createCar("Opel", "Astra", 4000, 5);
+        gosho.addVehicle(goshoAstra);
+
+        repository.login(pesho);
+    }
+
+    @Test
+    public void findVehicles_Should_ReturnVehiclesOfAllUsers_When_OnlyTypeIsGiven() {
+        // Arrange, Act
+        Map<Vehicle, User> cars = repository.findVehicles(VehicleType.CAR, null, null);
+
+        // Assert
+        assertAll(
+                () -> assertEquals(List.of(peshoVectra, goshoAstra), List.copyOf(cars.keySet())),
+                () -> assertSame(gosho, cars.get(goshoAstra)));
+    }
+
+    @Test
+    public void findVehicles_Should_IgnoreCase_When_MakeAndModelAreGiven() {
+        // Arrange, Act
+        Map<Vehicle, User> vehicles = repository.findVehicles(null, "OPEL", "vectra");
+
+        // Assert
+        assertEquals(List.of(peshoVectra), List.copyOf(vehicles.keySet()));
+    }
+
+    @Test
+    public void findVehicles_Should_NotReturnVehicle_When_VehicleIsRemoved() {
+        // Arrange
+        pesho.removeVehicle(peshoVectra);
+
+        // Act
+        Map<Vehicle, User> vehicles = repository.findVehicles(null, "Opel", null);
+
+        // Assert
+        assertEquals(List.of(goshoAstra), List.copyOf(vehicles.keySet()));
+    }
+
+    @Test
+    public void should_ListOwnersAndVehicles_When_VehiclesAreFound() {
+        // Arrange
+        List<String> params = List.of("*", "Opel");
+
+        // Act
+        String result = findVehiclesCommand.execute(params);
+
+        // Assert
+        assertAll(
+                () -> assertTrue(result.startsWith("--VEHICLES--" + System.lineSeparator() + "1. Owner: pesho")),
+                () -> assertTrue(result.contains("2. Owner: gosho" + System.lineSeparator() + "Car:")),
+                () -> assertFalse(result.contains("Volvo")));
+    }
+
+    @Test
+    public void should_ShowNoVehicles_When_NothingMatches() {
+        // Arrange
+        List<String> params = List.of("Motorcycle");
+
+        // Act
+        String result = findVehiclesCommand.execute(params);
+
+        // Assert
+        assertEquals("--VEHICLES--" + System.lineSeparator() + "--NO VEHICLES--", result);
+    }
+
+    @Test
+    public void should_ThrowException_When_TypeDoesNotExist() {
+        // Arrange, Act, Assert
+        assertThrows(IllegalArgumentException.class, () -> findVehiclesCommand.execute(List.of("Plane")));
+    }
+}
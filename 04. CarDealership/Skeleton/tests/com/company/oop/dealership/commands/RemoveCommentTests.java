@@ -20,12 +20,13 @@ public class RemoveCommentTests {
 
     public static final int EXPECTED_NUMBER_OF_ARGUMENTS = 3;
 
+    private VehicleDealershipRepository repository;
     private RemoveCommentCommand removeCommentCommand;
     private User user;
 
     @BeforeEach
     public void before() {
-        VehicleDealershipRepository repository = new VehicleDealershipRepositoryImpl();
+        repository = new VehicleDealershipRepositoryImpl();
         removeCommentCommand = new RemoveCommentCommand(repository);
         user = loginInitializedUserToRepository(repository);
     }
@@ -117,4 +118,44 @@ public class RemoveCommentTests {
         // Act, Assert
         Assertions.assertEquals(0, user.getVehicles().get(0).getComments().size());
     }
+
+    @Test
+    public void should_RemoveCommentById_When_CommentExists() {
+        // Arrange
+        Car testCar = initializeTestCar();
+        user.addVehicle(testCar);
+        Comment first = repository.createComment(VALID_CONTENT, user.getUsername());
+        Comment second = repository.createComment(VALID_CONTENT, user.getUsername());
+        user.addComment(first, testCar);
+        user.addComment(second, testCar);
+
+        // Act
+        removeCommentCommand.execute(List.of("#" + second.getId()));
+
+        // Assert
+        Assertions.assertEquals(List.of(first), testCar.getComments());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> repository.findCommentById(second.getId()));
+    }
+
+    @Test
+    public void should_ThrowException_When_CommentIdDoesNotExist() {
+        // Arrange
+        Car testCar = initializeTestCar();
+        user.addVehicle(testCar);
+        Comment comment = repository.createComment(VALID_CONTENT, user.getUsername());
+        user.addComment(comment, testCar);
+        List<String> params = List.of("#" + (comment.getId() + 1));
+
+        // Act, Assert
+        Assertions.assertThrows(IllegalArgumentException.class, () -> removeCommentCommand.execute(params));
+    }
+
+    @Test
+    public void should_ThrowException_When_CommentIdIsInvalid() {
+        // Arrange
+        List<String> params = List.of("INVALID_ID");
+
+        // Act, Assert
+        Assertions.assertThrows(IllegalArgumentException.class, () -> removeCommentCommand.execute(params));
+    }
 }
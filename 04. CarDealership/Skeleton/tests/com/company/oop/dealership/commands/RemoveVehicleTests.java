@@ -4,6 +4,7 @@ import com.company.oop.dealership.core.VehicleDealershipRepositoryImpl;
 import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
 import com.company.oop.dealership.models.contracts.Car;
 import com.company.oop.dealership.models.contracts.User;
+import com.company.oop.dealership.models.enums.UserRole;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,12 +19,13 @@ public class RemoveVehicleTests {
 
     public static final int EXPECTED_NUMBER_OF_ARGUMENTS = 1;
 
+    private VehicleDealershipRepository repository;
     private RemoveVehicleCommand removeVehicleCommand;
     private User user;
 
     @BeforeEach
     public void before() {
-        VehicleDealershipRepository repository = new VehicleDealershipRepositoryImpl();
+        repository = new VehicleDealershipRepositoryImpl();
         removeVehicleCommand = new RemoveVehicleCommand(repository);
         user = loginInitializedUserToRepository(repository);
     }
@@ -70,4 +72,48 @@ public class RemoveVehicleTests {
         // Act, Assert
         Assertions.assertEquals(0, user.getVehicles().size());
     }
+
+    @Test
+    public void should_RemoveVehicleById_When_VehiclesBeforeItWereRemoved() {
+        // Arrange
+        Car first = initializeTestCar();
+        Car second = initializeTestCar();
+        Car third = initializeTestCar();
+        user.addVehicle(first);
+        user.addVehicle(second);
+        user.addVehicle(third);
+        long thirdId = third.getId();
+        removeVehicleCommand.execute(List.of("1"));
+
+        // Act
+        removeVehicleCommand.execute(List.of("#" + thirdId));
+
+        // Assert
+        Assertions.assertEquals(thirdId, third.getId());
+        Assertions.assertEquals(List.of(second), user.getVehicles());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> repository.findVehicleById(thirdId));
+    }
+
+    @Test
+    public void should_ThrowException_When_VehicleWithIdBelongsToOtherUser() {
+        // Arrange
+        User otherUser = repository.createUser("gosho", "Georgi", "Georgiev", "123456", UserRole.NORMAL);
+        repository.addUser(otherUser);
+        Car testCar = initializeTestCar();
+        otherUser.addVehicle(testCar);
+        List<String> params = List.of("#" + testCar.getId());
+
+        // Act, Assert
+        Assertions.assertThrows(IllegalArgumentException.class, () -> removeVehicleCommand.execute(params));
+        Assertions.assertEquals(1, otherUser.getVehicleCount());
+    }
+
+    @Test
+    public void should_ThrowException_When_VehicleIdIsInvalid() {
+        // Arrange
+        List<String> params = List.of("#INVALID_ID");
+
+        // Act, Assert
+        Assertions.assertThrows(IllegalArgumentException.class, () -> removeVehicleCommand.execute(params));
+    }
 }
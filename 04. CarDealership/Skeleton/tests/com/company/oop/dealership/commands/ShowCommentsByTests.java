@@ -0,0 +1,86 @@
+package com.company.oop.dealership.commands;
+
+import com.company.oop.dealership.core.VehicleDealershipRepositoryImpl;
+import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
+import com.company.oop.dealership.models.contracts.Car;
+import com.company.oop.dealership.models.contracts.Comment;
+import com.company.oop.dealership.models.contracts.User;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.company.oop.dealership.commands.LoginTests.loginInitializedUserToRepository;
+import static com.company.oop.dealership.models.CarImplTests.initializeTestCar;
+import static com.company.oop.dealership.utils.TestUtilities.getList;
+
+public class ShowCommentsByTests {
+
+    public static final int EXPECTED_NUMBER_OF_ARGUMENTS = 1;
+
+    private VehicleDealershipRepository repository;
+    private ShowCommentsByCommand showCommentsByCommand;
+    private User user;
+
+    @BeforeEach
+    public void before() {
+        repository = new VehicleDealershipRepositoryImpl();
+        showCommentsByCommand = new ShowCommentsByCommand(repository);
+        user = loginInitializedUserToRepository(repository);
+    }
+
+    @Test
+    public void should_ThrowException_When_ArgumentCountDifferentThanExpected() {
+        // Arrange
+        List<String> params = getList(EXPECTED_NUMBER_OF_ARGUMENTS - 1);
+
+        // Act, Assert
+        Assertions.assertThrows(IllegalArgumentException.class, () -> showCommentsByCommand.execute(params));
+    }
+
+    @Test
+    public void should_ShowOnlyCommentsOfAuthor_When_AuthorHasComments() {
+        // Arrange
+        Car testCar = initializeTestCar();
+        user.addVehicle(testCar);
+        Comment comment = repository.createComment("Amazing speed", "Pesho");
+        user.addComment(comment, testCar);
+        user.addComment(repository.createComment("Too expensive", "gosho"), testCar);
+
+        // Act
+        String output = showCommentsByCommand.execute(List.of("pesho"));
+
+        // Assert
+        Assertions.assertEquals(String.join(System.lineSeparator(),
+                "--COMMENTS BY pesho--",
+                String.format("1. Id: #%d, Car: %s %s", comment.getId(), testCar.getMake(), testCar.getModel()),
+                comment.toString()), output);
+    }
+
+    @Test
+    public void should_ShowNoComments_When_CommentsOfAuthorWereRemoved() {
+        // Arrange
+        Car testCar = initializeTestCar();
+        user.addVehicle(testCar);
+        Comment comment = repository.createComment("Amazing speed", user.getUsername());
+        user.addComment(comment, testCar);
+        user.removeComment(comment, testCar);
+
+        // Act
+        String output = showCommentsByCommand.execute(List.of(user.getUsername()));
+
+        // Assert
+        Assertions.assertEquals(String.format("--COMMENTS BY %s--%s--NO COMMENTS--",
+                user.getUsername(), System.lineSeparator()), output);
+    }
+
+    @Test
+    public void should_ThrowException_When_UserIsNotLoggedIn() {
+        // Arrange
+        repository.logout();
+
+        // Act, Assert
+        Assertions.assertThrows(IllegalArgumentException.class, () -> showCommentsByCommand.execute(List.of("pesho")));
+    }
+}
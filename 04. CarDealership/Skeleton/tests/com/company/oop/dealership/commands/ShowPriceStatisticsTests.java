@@ -0,0 +1,117 @@
+package com.company.oop.dealership.commands;
+
+import com.company.oop.dealership.core.PriceSummary;
+import com.company.oop.dealership.core.VehicleDealershipRepositoryImpl;
+import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
+import com.company.oop.dealership.models.contracts.User;
+import com.company.oop.dealership.models.contracts.Vehicle;
+import com.company.oop.dealership.models.enums.UserRole;
+import com.company.oop.dealership.models.enums.VehicleGrouping;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ShowPriceStatisticsTests {
+
+    private VehicleDealershipRepository repository;
+    private ShowPriceStatisticsCommand showPriceStatisticsCommand;
+    private User pesho;
+    private Vehicle peshoVectra;
+
+    @BeforeEach
+    public void before() {
+        repository = new VehicleDealershipRepositoryImpl();
+        showPriceStatisticsCommand = new ShowPriceStatisticsCommand(repository);
+
+        pesho = repository.createUser("pesho", "Petar", "Petrov", "123456", UserRole.VIP);
+        peshoVectra = repository.createCar("Opel", "Vectra", 5000, 5);
+        pesho.addVehicle(peshoVectra);
+        repository.addUser(pesho);
+        pesho.addVehicle(repository.createTruck("Volvo", "FH16", 120000, 40));
+
+        User gosho = repository.createUser("gosho", "Georgi", "Georgiev", "123456", UserRole.NORMAL);
+        repository.addUser(gosho);
+        gosho.addVehicle(repository.createCar("OPEL", "Astra", 4000.5, 5));
+
+        repository.login(pesho);
+    }
+
+    @Test
+    public void summarizePrices_Should_GroupVehiclesOfAllUsers_When_GroupedByType() {
+        // Arrange, Act
+        List<PriceSummary> summaries = repository.summarizePrices(VehicleGrouping.TYPE);
+
+        // Assert
+        assertEquals(2, summaries.size());
+        PriceSummary cars = summaries.get(0);
+        assertAll(
+                () -> assertEquals("Car", cars.getGroup()),
+                () -> assertEquals(2, cars.getCount()),
+                () -> assertEquals(9000.5, cars.getSum()),
+                () -> assertEquals(4500.25, cars.getAverage()),
+                () -> assertEquals(4000.5, cars.getMin()),
+                () -> assertEquals(5000, cars.getMax()),
+                () -> assertEquals("Truck", summaries.get(1).getGroup()));
+    }
+
+    @Test
+    public void summarizePrices_Should_NotCountVehicle_When_VehicleIsRemoved() {
+        // Arrange
+        pesho.removeVehicle(peshoVectra);
+
+        // Act
+        List<PriceSummary> summaries = repository.summarizePrices(VehicleGrouping.MAKE);
+
+        // Assert
+        assertEquals(2, summaries.size());
+        assertEquals("OPEL", summaries.get(0).getGroup());
+        assertEquals(1, summaries.get(0).getCount());
+        assertEquals(4000.5, summaries.get(0).getMax());
+    }
+
+    @Test
+    public void getPriceIndexBytes_Should_Shrink_When_VehicleIsRemoved() {
+        // Arrange
+        long bytesBefore = repository.getPriceIndexBytes();
+
+        // Act
+        pesho.removeVehicle(peshoVectra);
+
+        // Assert
+        assertTrue(repository.getPriceIndexBytes() < bytesBefore);
+    }
+
+    @Test
+    public void execute_Should_ShowSummaryOfEveryMake_When_GroupedByMake() {
+        // Arrange, Act
+        String output = showPriceStatisticsCommand.execute(List.of("make"));
+
+        // Assert
+        assertEquals(String.join(System.lineSeparator(),
+                "--PRICES BY MAKE--",
+                "Opel: 2 vehicles, total $9000.5, average $4500.25, min $4000.5, max $5000",
+                "Volvo: 1 vehicles, total $120000, average $120000, min $120000, max $120000"), output);
+    }
+
+    @Test
+    public void execute_Should_ShowNoVehicles_When_NoOneHasVehicles() {
+        // Arrange
+        VehicleDealershipRepository emptyRepository = new VehicleDealershipRepositoryImpl();
+        emptyRepository.login(pesho);
+
+        // Act
+        String output = new ShowPriceStatisticsCommand(emptyRepository).execute(List.of("Type"));
+
+        // Assert
+        assertEquals("--PRICES BY TYPE--" + System.lineSeparator() + "--NO VEHICLES--", output);
+    }
+
+    @Test
+    public void execute_Should_ThrowException_When_GroupingIsInvalid() {
+        // Arrange, Act, Assert
+        assertThrows(IllegalArgumentException.class, () -> showPriceStatisticsCommand.execute(List.of("Price")));
+    }
+}
@@ -3,6 +3,7 @@ package com.company.oop.dealership.commands;
 import com.company.oop.dealership.core.VehicleDealershipRepositoryImpl;
 import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
 import com.company.oop.dealership.models.contracts.User;
+import com.company.oop.dealership.models.enums.UserRole;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -10,8 +11,7 @@ import java.util.List;
 
 import static com.company.oop.dealership.commands.LoginTests.loginInitializedUserToRepository;
 import static com.company.oop.dealership.models.UserImplTests.*;
-import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class ShowUsersTests {
 
@@ -49,4 +49,25 @@ public class ShowUsersTests {
         // Act, Assert
         assertDoesNotThrow(() -> showUsersCommand.execute(List.of()));
     }
+
+    @Test
+    public void should_ShowOnlyRequestedPage_When_PageSizeAndCursorAreGiven() {
+        // Arrange
+        User testAdmin = initializeTestAdmin();
+        repository.addUser(testAdmin);
+        repository.login(testAdmin);
+        for (int i = 0; i < 4; i++) {
+            repository.addUser(repository.createUser("user" + i, "First", "Last", VALID_PASSWORD, UserRole.NORMAL));
+        }
+
+        // Act
+        String output = showUsersCommand.execute(List.of("2", "2"));
+
+        // Assert
+        assertEquals(String.join(System.lineSeparator(),
+                "--USERS--",
+                "3. Username: user1, FullName: First Last, Role: Normal",
+                "4. Username: user2, FullName: First Last, Role: Normal",
+                "--NEXT CURSOR: 4--"), output);
+    }
 }
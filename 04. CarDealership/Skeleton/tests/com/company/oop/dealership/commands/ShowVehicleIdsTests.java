@@ -0,0 +1,69 @@
+package com.company.oop.dealership.commands;
+
+import com.company.oop.dealership.core.VehicleDealershipRepositoryImpl;
+import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
+import com.company.oop.dealership.models.contracts.Car;
+import com.company.oop.dealership.models.contracts.User;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.company.oop.dealership.commands.LoginTests.loginInitializedUserToRepository;
+import static com.company.oop.dealership.models.CarImplTests.initializeTestCar;
+import static com.company.oop.dealership.utils.TestUtilities.getList;
+
+public class ShowVehicleIdsTests {
+
+    public static final int EXPECTED_NUMBER_OF_ARGUMENTS = 1;
+
+    private VehicleDealershipRepository repository;
+    private ShowVehicleIdsCommand showVehicleIdsCommand;
+    private User user;
+
+    @BeforeEach
+    public void before() {
+        repository = new VehicleDealershipRepositoryImpl();
+        showVehicleIdsCommand = new ShowVehicleIdsCommand(repository);
+        user = loginInitializedUserToRepository(repository);
+    }
+
+    @Test
+    public void should_ThrowException_When_ArgumentCountDifferentThanExpected() {
+        // Arrange
+        List<String> params = getList(EXPECTED_NUMBER_OF_ARGUMENTS - 1);
+
+        // Act, Assert
+        Assertions.assertThrows(IllegalArgumentException.class, () -> showVehicleIdsCommand.execute(params));
+    }
+
+    @Test
+    public void should_KeepIds_When_VehicleBeforeThemIsRemoved() {
+        // Arrange
+        Car first = initializeTestCar();
+        Car second = initializeTestCar();
+        user.addVehicle(first);
+        user.addVehicle(second);
+        long secondId = second.getId();
+        user.removeVehicle(first);
+
+        // Act
+        String output = showVehicleIdsCommand.execute(List.of(user.getUsername()));
+
+        // Assert
+        Assertions.assertEquals(String.join(System.lineSeparator(),
+                String.format("--VEHICLE IDS OF %s--", user.getUsername()),
+                String.format("1. Id: %d, Car: %s %s", secondId, second.getMake(), second.getModel())), output);
+    }
+
+    @Test
+    public void should_ShowNoVehicles_When_UserHasNoVehicles() {
+        // Act
+        String output = showVehicleIdsCommand.execute(List.of(user.getUsername()));
+
+        // Assert
+        Assertions.assertEquals(String.format("--VEHICLE IDS OF %s--%s--NO VEHICLES--",
+                user.getUsername(), System.lineSeparator()), output);
+    }
+}
@@ -0,0 +1,109 @@
+package com.company.oop.dealership.commands;
+
+import com.company.oop.dealership.core.VehicleDealershipRepositoryImpl;
+import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
+import com.company.oop.dealership.models.contracts.User;
+import com.company.oop.dealership.models.contracts.Vehicle;
+import com.company.oop.dealership.models.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ShowVehiclesInPriceRangeTests {
+
+    private VehicleDealershipRepository repository;
+    private ShowVehiclesInPriceRangeCommand command;
+    private User pesho;
+    private Vehicle cheapCar;
+    private Vehicle middleCar;
+    private Vehicle expensiveCar;
+    private Vehicle truck;
+
+    @BeforeEach
+    public void before() {
+        repository = new VehicleDealershipRepositoryImpl();
+        command = new ShowVehiclesInPriceRangeCommand(repository);
+
+        pesho = repository.createUser("pesho", "Petar", "Petrov", "123456", UserRole.VIP);
+        repository.addUser(pesho);
+        User gosho = repository.createUser("gosho", "Georgi", "Georgiev", "123456", UserRole.VIP);
+        repository.addUser(gosho);
+
+        expensiveCar = repository.createCar("Audi", "A8", 12000, 5);
+        pesho.addVehicle(expensiveCar);
+        cheapCar = repository.createCar("Lada", "Niva", 3000, 5);
+        gosho.addVehicle(cheapCar);
+        middleCar = repository.createCar("Opel", "Vectra", 5000, 5);
+        gosho.addVehicle(middleCar);
+        truck = repository.createTruck("Volvo", "FH16", 90000, 40);
+        pesho.addVehicle(truck);
+
+        repository.login(pesho);
+    }
+
+    @Test
+    public void findVehiclesInPriceRange_Should_ReturnVehiclesInPriceOrder_When_BoundsAreIncluded() {
+        // Arrange, Act
+        List<Vehicle> vehicles = findInRange(3000, 12000);
+
+        // Assert
+        assertEquals(List.of(cheapCar, middleCar, expensiveCar), vehicles);
+    }
+
+    @Test
+    public void findVehiclesInPriceRange_Should_NotReturnVehicle_When_VehicleIsRemoved() {
+        // Arrange
+        pesho.removeVehicle(expensiveCar);
+
+        // Act
+        List<Vehicle> vehicles = findInRange(5000, 100000);
+
+        // Assert
+        assertEquals(List.of(middleCar, truck), vehicles);
+    }
+
+    @Test
+    public void findVehiclesInPriceRange_Should_ReturnNothing_When_MinIsAboveMax() {
+        // Arrange, Act, Assert
+        assertTrue(findInRange(12000, 3000).isEmpty());
+    }
+
+    @Test
+    public void should_ShowOnlyCheapestVehicles_When_LimitIsGiven() {
+        // Arrange
+        List<String> params = List.of("4000", "100000", "2");
+
+        // Act
+        String result = command.execute(params);
+
+        // Assert
+        assertAll(
+                () -> assertTrue(result.startsWith("--VEHICLES--" + System.lineSeparator() + "1. Owner: gosho")),
+                () -> assertTrue(result.contains("2. Owner: pesho")),
+                () -> assertTrue(result.indexOf("Vectra") < result.indexOf("A8")),
+                () -> assertFalse(result.contains("Volvo")));
+    }
+
+    @Test
+    public void should_ThrowException_When_LimitIsNotPositive() {
+        // Arrange, Act, Assert
+        assertThrows(IllegalArgumentException.class, () -> command.execute(List.of("1", "2", "0")));
+    }
+
+    @Test
+    public void should_ThrowException_When_PriceIsNotNumber() {
+        // Arrange, Act, Assert
+        assertThrows(IllegalArgumentException.class, () -> command.execute(List.of("cheap", "2")));
+    }
+
+    private List<Vehicle> findInRange(double min, double max) {
+        return repository.findVehiclesInPriceRange(min, max)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+}
@@ -11,8 +11,7 @@ import java.util.List;
 
 import static com.company.oop.dealership.commands.LoginTests.loginInitializedUserToRepository;
 import static com.company.oop.dealership.utils.TestUtilities.*;
-import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class ShowVehiclesTests {
     private ShowVehiclesCommand showVehiclesCommand;
@@ -48,4 +47,68 @@ public class ShowVehiclesTests {
         // Act, Assert
         Assertions.assertDoesNotThrow(() -> showVehiclesCommand.execute(params));
     }
+
+    @Test
+    public void should_ShowOnlyRequestedPage_When_PageSizeAndCursorAreGiven() {
+        // Arrange
+        User user = loginInitializedUserToRepository(repository);
+        for (int i = 0; i < 3; i++) {
+            user.addVehicle(repository.createTruck("Volvo", "FH" + i, 1000 + i, 10));
+        }
+
+        // Act
+        String firstPage = showVehiclesCommand.execute(List.of(user.getUsername(), "2"));
+        String lastPage = showVehiclesCommand.execute(List.of(user.getUsername(), "2", "#3"));
+
+        // Assert
+        assertAll(
+                () -> assertTrue(firstPage.contains("Model: FH1")),
+                () -> assertFalse(firstPage.contains("Model: FH2")),
+                () -> assertTrue(firstPage.endsWith("--NEXT CURSOR: #3--")),
+                () -> assertTrue(lastPage.contains(System.lineSeparator() + "3. Truck:")),
+                () -> assertFalse(lastPage.contains("Model: FH1")),
+                () -> assertFalse(lastPage.contains("--NEXT CURSOR")));
+    }
+
+    @Test
+    public void should_StartPageAtCursorVehicle_When_EarlierVehicleWasRemoved() {
+        // Arrange
+        User user = loginInitializedUserToRepository(repository);
+        for (int i = 0; i < 3; i++) {
+            user.addVehicle(repository.createTruck("Volvo", "FH" + i, 1000 + i, 10));
+        }
+        String firstPage = showVehiclesCommand.execute(List.of(user.getUsername(), "2"));
+        user.removeVehicle(user.getVehicle(0));
+
+        // Act
+        String nextPage = showVehiclesCommand.execute(List.of(user.getUsername(), "2", "#3"));
+
+        // Assert
+        assertAll(
+                () -> assertTrue(firstPage.endsWith("--NEXT CURSOR: #3--")),
+                () -> assertTrue(nextPage.contains("Model: FH2")),
+                () -> assertFalse(nextPage.contains("Model: FH1")),
+                () -> assertFalse(nextPage.contains("--NEXT CURSOR")));
+    }
+
+    @Test
+    public void should_ShowSameVehicles_When_PageIsWholeList() {
+        // Arrange
+        User user = loginInitializedUserToRepository(repository);
+        user.addVehicle(repository.createTruck("Volvo", "FH", 1000, 10));
+
+        // Act, Assert
+        assertEquals(showVehiclesCommand.execute(List.of(user.getUsername())),
+                showVehiclesCommand.execute(List.of(user.getUsername(), "10", "#1")));
+    }
+
+    @Test
+    public void should_ThrowException_When_CursorIsNotVehicleId() {
+        // Arrange
+        User user = loginInitializedUserToRepository(repository);
+
+        // Act, Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> showVehiclesCommand.execute(List.of(user.getUsername(), "10", "1")));
+    }
 }
@@ -0,0 +1,64 @@
+package com.company.oop.dealership.commands;
+
+import com.company.oop.dealership.commands.enums.CommandType;
+import com.company.oop.dealership.core.VehicleDealershipRepositoryImpl;
+import com.company.oop.dealership.core.contracts.CommandStatistics;
+import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
+import com.company.oop.dealership.models.contracts.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.company.oop.dealership.models.UserImplTests.initializeTestUser;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StatsTests {
+
+    private VehicleDealershipRepository repository;
+    private StatsCommand statsCommand;
+
+    @BeforeEach
+    public void before() {
+        repository = new VehicleDealershipRepositoryImpl();
+        statsCommand = new StatsCommand(repository);
+    }
+
+    @Test
+    public void execute_Should_CountSuccessesAndFailures_When_CommandsAreExecuted() {
+        // Arrange
+        User user = initializeTestUser();
+        repository.addUser(user);
+        LoginCommand loginCommand = new LoginCommand(repository);
+
+        // Act
+        loginCommand.execute(List.of(user.getUsername(), user.getPassword()));
+        assertThrows(IllegalArgumentException.class,
+                () -> loginCommand.execute(List.of(user.getUsername(), user.getPassword())));
+
+        // Assert
+        CommandStatistics statistics = repository.getCommandStatistics();
+        assertAll(
+                () -> assertEquals(1, statistics.getSuccessCount(CommandType.LOGIN)),
+                () -> assertEquals(1, statistics.getFailureCount(CommandType.LOGIN)),
+                () -> assertTrue(statistics.getMaxLatency(CommandType.LOGIN) > 0),
+                () -> assertEquals(0, statistics.getSuccessCount(CommandType.LOGOUT)));
+    }
+
+    @Test
+    public void should_ShowEveryCommandType_When_NoUserIsLoggedIn() {
+        // Arrange
+        assertThrows(IllegalArgumentException.class, () -> new LogoutCommand(repository).execute(List.of()));
+
+        // Act
+        String result = statsCommand.execute(List.of());
+
+        // Assert
+        String[] lines = result.split(System.lineSeparator());
+        assertAll(
+                () -> assertEquals("--STATS--", lines[0]),
+                () -> assertEquals(CommandType.values().length + 1, lines.length),
+                () -> assertTrue(lines[1].startsWith("REGISTERUSER: 0 succeeded, 0 failed")),
+                () -> assertTrue(lines[3].startsWith("LOGOUT: 0 succeeded, 1 failed")));
+    }
+}
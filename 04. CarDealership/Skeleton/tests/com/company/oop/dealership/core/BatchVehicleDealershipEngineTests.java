@@ -0,0 +1,67 @@
+package com.company.oop.dealership.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class BatchVehicleDealershipEngineTests {
+
+    public static final String SCRIPT = String.join(System.lineSeparator(),
+            "RegisterUser p Petar Petrov 123456",
+            "RegisterUser pesho Petar Petrov 123456",
+            "",
+            "AddVehicle Car Opel Vectra 5000 5",
+            "AddComment {{Amazing speed and handling!}} pesho 1",
+            "ShowVehicles pesho",
+            "UnknownCommand",
+            "Logout",
+            "Exit",
+            "Logout");
+
+    @Test
+    public void start_Should_PrintSameOutputAsInteractiveEngine() {
+        // Arrange
+        String expected = runInteractive(SCRIPT);
+        StringWriter output = new StringWriter();
+
+        // Act
+        new BatchVehicleDealershipEngineImpl(new StringReader(SCRIPT), output).start();
+
+        // Assert
+        assertEquals(expected, output.toString());
+    }
+
+    @Test
+    public void start_Should_StopAtEndOfInput_When_NoTerminationCommand() {
+        // Arrange
+        StringWriter output = new StringWriter();
+
+        // Act
+        new BatchVehicleDealershipEngineImpl(new StringReader("Logout"), output, 1).start();
+
+        // Assert
+        assertEquals(runInteractive("Logout" + System.lineSeparator() + "Exit"), output.toString());
+    }
+
+    private static String runInteractive(String script) {
+        InputStream originalIn = System.in;
+        PrintStream originalOut = System.out;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try {
+            System.setIn(new ByteArrayInputStream(script.getBytes()));
+            System.setOut(new PrintStream(output));
+            new VehicleDealershipEngineImpl().start();
+        } finally {
+            System.setIn(originalIn);
+            System.setOut(originalOut);
+        }
+        return output.toString();
+    }
+}
@@ -0,0 +1,48 @@
+package com.company.oop.dealership.core;
+
+import com.company.oop.dealership.commands.AddCommentCommand;
+import com.company.oop.dealership.commands.enums.CommandType;
+import com.company.oop.dealership.core.contracts.CommandFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CommandFactoryTests {
+
+    private CommandFactory commandFactory;
+
+    @BeforeEach
+    public void before() {
+        commandFactory = new CommandFactoryImpl(new VehicleDealershipRepositoryImpl());
+    }
+
+    @Test
+    public void findCommand_Should_ReturnCommand_When_NameIsInAnyCase() {
+        // Arrange, Act, Assert
+        assertAll(
+                () -> assertTrue(commandFactory.findCommand("AddComment") instanceof AddCommentCommand),
+                () -> assertTrue(commandFactory.findCommand("addcomment") instanceof AddCommentCommand),
+                () -> assertTrue(commandFactory.findCommand("ADDCOMMENT") instanceof AddCommentCommand));
+    }
+
+    @Test
+    public void findCommand_Should_ReturnSameInstance_When_CalledAgain() {
+        // Arrange, Act, Assert
+        assertSame(commandFactory.findCommand("Login"), commandFactory.findCommand("login"));
+    }
+
+    @Test
+    public void findCommand_Should_ReturnCommandForEveryCommandType() {
+        // Arrange, Act, Assert
+        for (CommandType commandType : CommandType.values()) {
+            assertNotNull(commandFactory.findCommand(commandType.name()));
+        }
+    }
+
+    @Test
+    public void findCommand_Should_ReturnNull_When_CommandDoesNotExist() {
+        // Arrange, Act, Assert
+        assertNull(commandFactory.findCommand("FlyAway"));
+    }
+}
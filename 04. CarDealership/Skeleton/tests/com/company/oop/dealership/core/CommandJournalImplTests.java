@@ -0,0 +1,267 @@
+package com.company.oop.dealership.core;
+
+import com.company.oop.dealership.commands.enums.CommandType;
+import com.company.oop.dealership.core.contracts.CommandFactory;
+import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CommandJournalImplTests {
+
+    private static final long MAX_DELAY_MILLIS = 1;
+
+    private Path journalFile;
+
+    @BeforeEach
+    public void before() throws IOException {
+        journalFile = Files.createTempFile("dealership", ".journal");
+    }
+
+    @AfterEach
+    public void after() throws IOException {
+        Files.deleteIfExists(journalFile);
+    }
+
+    @Test
+    public void constructor_Should_ReplayJournaledCommands_When_JournalIsReopened() throws IOException {
+        // Arrange
+        VehicleDealershipRepository repository = new VehicleDealershipRepositoryImpl();
+        try (CommandJournalImpl journal = new CommandJournalImpl(journalFile, repository, MAX_DELAY_MILLIS)) {
+            repository.setCommandJournal(journal);
+            execute(repository,
+                    "RegisterUser", List.of("pesho", "Petar", "Petrov", "123456", "VIP"),
+                    "AddVehicle", List.of("Car", "Opel", "Vectra", "5000", "5"),
+                    "AddVehicle", List.of("Truck", "Volvo", "FH", "40000", "30"),
+                    "AddComment", List.of("Nice and cheap", "pesho", "1"),
+                    "RemoveVehicle", List.of("2"),
+                    "Logout", List.of());
+        }
+        VehicleDealershipRepository replayed = new VehicleDealershipRepositoryImpl();
+
+        // Act
+        try (CommandJournalImpl journal = new CommandJournalImpl(journalFile, replayed, MAX_DELAY_MILLIS)) {
+            // Assert
+            assertEquals(5, journal.getReplayedCount());
+            assertEquals(0, journal.getSkippedCount());
+        }
+        assertEquals(repository.findUserByUsername("pesho").printVehicles(),
+                replayed.findUserByUsername("pesho").printVehicles());
+        assertFalse(replayed.hasLoggedInUser());
+    }
+
+    @Test
+    public void constructor_Should_ReplayOnlyLaterRecords_When_RepositoryWasLoadedFromSnapshot() throws IOException {
+        // Arrange
+        Path snapshotFile = Files.createTempFile("dealership", ".snapshot");
+        VehicleDealershipRepository repository = new VehicleDealershipRepositoryImpl();
+        try (CommandJournalImpl journal = new CommandJournalImpl(journalFile, repository, MAX_DELAY_MILLIS)) {
+            repository.setCommandJournal(journal);
+            execute(repository,
+                    "RegisterUser", List.of("pesho", "Petar", "Petrov", "123456", "VIP"),
+                    "AddVehicle", List.of("Car", "Opel", "Vectra", "5000", "5"),
+                    "AddComment", List.of("Nice and cheap", "pesho", "1"));
+            new RepositorySnapshot().save(repository, snapshotFile);
+            execute(repository,
+                    "AddVehicle", List.of("Truck", "Volvo", "FH", "40000", "30"));
+        }
+        VehicleDealershipRepository restored = new VehicleDealershipRepositoryImpl();
+        RepositorySnapshot snapshot = new RepositorySnapshot();
+
+        // Act
+        try {
+            snapshot.load(snapshotFile, restored);
+        } finally {
+            Files.delete(snapshotFile);
+        }
+        try (CommandJournalImpl journal = new CommandJournalImpl(journalFile, restored, MAX_DELAY_MILLIS,
+                snapshot.getJournalSequence())) {
+            // Assert
+            assertEquals(3, snapshot.getJournalSequence());
+            assertEquals(1, journal.getReplayedCount());
+            assertEquals(4, journal.getLastSequence());
+            assertEquals(0, journal.getRecordCount());
+        }
+        assertEquals(repository.findUserByUsername("pesho").printVehicles(),
+                restored.findUserByUsername("pesho").printVehicles());
+    }
+
+    @Test
+    public void append_Should_NotBeCalled_When_CommandFails() throws IOException {
+        // Arrange
+        VehicleDealershipRepository repository = new VehicleDealershipRepositoryImpl();
+        try (CommandJournalImpl journal = new CommandJournalImpl(journalFile, repository, MAX_DELAY_MILLIS)) {
+            repository.setCommandJournal(journal);
+
+            // Act
+            assertThrows(IllegalArgumentException.class, () -> execute(repository,
+                    "AddVehicle", List.of("Car", "Opel", "Vectra", "5000", "5")));
+
+            // Assert
+            assertEquals(0, journal.getRecordCount());
+        }
+    }
+
+    @Test
+    public void awaitDurable_Should_ForceManyRecordsAtOnce() throws IOException {
+        // Arrange
+        try (CommandJournalImpl journal = new CommandJournalImpl(journalFile, new VehicleDealershipRepositoryImpl(), 50)) {
+            long sequence = 0;
+
+            // Act
+            for (int i = 0; i < 1000; i++) {
+                sequence = journal.append(CommandType.LOGOUT, "pesho", List.of());
+            }
+            journal.awaitDurable(sequence);
+
+            // Assert
+            assertEquals(1000, journal.getRecordCount());
+            assertTrue(journal.getSyncCount() < 1000);
+            assertTrue(journal.getMaxBatchSize() > 1);
+        }
+    }
+
+    @Test
+    public void constructor_Should_DropIncompleteRecord_When_JournalEndsMidRecord() throws IOException {
+        // Arrange
+        VehicleDealershipRepository repository = new VehicleDealershipRepositoryImpl();
+        try (CommandJournalImpl journal = new CommandJournalImpl(journalFile, repository, MAX_DELAY_MILLIS)) {
+            repository.setCommandJournal(journal);
+            execute(repository,
+                    "RegisterUser", List.of("pesho", "Petar", "Petrov", "123456", "VIP"),
+                    "AddVehicle", List.of("Car", "Opel", "Vectra", "5000", "5"));
+        }
+        long completeSize = Files.size(journalFile);
+        try (FileChannel channel = FileChannel.open(journalFile, StandardOpenOption.WRITE)) {
+            channel.truncate(completeSize - 3);
+        }
+
+        // Act
+        VehicleDealershipRepository replayed = new VehicleDealershipRepositoryImpl();
+        try (CommandJournalImpl journal = new CommandJournalImpl(journalFile, replayed, MAX_DELAY_MILLIS)) {
+            // Assert
+            assertEquals(1, journal.getReplayedCount());
+        }
+        assertEquals(0, replayed.findUserByUsername("pesho").getVehicleCount());
+    }
+
+    @Test
+    public void constructor_Should_ThrowException_When_FileIsNotJournal() throws IOException {
+        // Arrange
+        Files.writeString(journalFile, "RegisterUser pesho Petar Petrov 123456");
+
+        // Act, Assert
+        assertThrows(IOException.class,
+                () -> new CommandJournalImpl(journalFile, new VehicleDealershipRepositoryImpl(), MAX_DELAY_MILLIS));
+    }
+
+    @Test
+    public void constructor_Should_ReplayLoadedSnapshot_When_FileIsUnchanged() throws IOException {
+        // Arrange
+        Path snapshotFile = Files.createTempFile("dealership", ".snapshot");
+        try {
+            saveSnapshotWithUser(snapshotFile, "pesho");
+            journalSnapshotLoad(snapshotFile);
+
+            // Act
+            VehicleDealershipRepository replayed = new VehicleDealershipRepositoryImpl();
+            try (CommandJournalImpl journal = new CommandJournalImpl(journalFile, replayed, MAX_DELAY_MILLIS)) {
+                // Assert
+                assertEquals(2, journal.getReplayedCount());
+            }
+            assertEquals("pesho", replayed.findUserByUsername("pesho").getUsername());
+        } finally {
+            Files.deleteIfExists(snapshotFile);
+        }
+    }
+
+    @Test
+    public void constructor_Should_ThrowException_When_LoadedSnapshotWasSavedOver() throws IOException {
+        // Arrange
+        Path snapshotFile = Files.createTempFile("dealership", ".snapshot");
+        try {
+            saveSnapshotWithUser(snapshotFile, "pesho");
+            journalSnapshotLoad(snapshotFile);
+            saveSnapshotWithUser(snapshotFile, "gosho");
+
+            // Act, Assert
+            assertThrows(IOException.class,
+                    () -> new CommandJournalImpl(journalFile, new VehicleDealershipRepositoryImpl(), MAX_DELAY_MILLIS));
+        } finally {
+            Files.deleteIfExists(snapshotFile);
+        }
+    }
+
+    @Test
+    public void encodeCommandType_Should_KeepCodeOfEveryCommandType() throws IOException {
+        // Arrange
+        // Changing one of these codes makes existing journals replay a different command.
+        Map<CommandType, String> pinnedCodes = new EnumMap<>(CommandType.class);
+        pinnedCodes.put(CommandType.REGISTERUSER, "REGISTERUSER");
+        pinnedCodes.put(CommandType.LOGIN, "LOGIN");
+        pinnedCodes.put(CommandType.LOGOUT, "LOGOUT");
+        pinnedCodes.put(CommandType.ADDVEHICLE, "ADDVEHICLE");
+        pinnedCodes.put(CommandType.REMOVEVEHICLE, "REMOVEVEHICLE");
+        pinnedCodes.put(CommandType.ADDCOMMENT, "ADDCOMMENT");
+        pinnedCodes.put(CommandType.REMOVECOMMENT, "REMOVECOMMENT");
+        pinnedCodes.put(CommandType.SHOWCOMMENTSBY, "SHOWCOMMENTSBY");
+        pinnedCodes.put(CommandType.SHOWUSERS, "SHOWUSERS");
+        pinnedCodes.put(CommandType.SHOWVEHICLES, "SHOWVEHICLES");
+        pinnedCodes.put(CommandType.SHOWVEHICLEIDS, "SHOWVEHICLEIDS");
+        pinnedCodes.put(CommandType.FINDVEHICLES, "FINDVEHICLES");
+        pinnedCodes.put(CommandType.SHOWVEHICLESINPRICERANGE, "SHOWVEHICLESINPRICERANGE");
+        pinnedCodes.put(CommandType.SHOWPRICESTATISTICS, "SHOWPRICESTATISTICS");
+        pinnedCodes.put(CommandType.SAVESNAPSHOT, "SAVESNAPSHOT");
+        pinnedCodes.put(CommandType.LOADSNAPSHOT, "LOADSNAPSHOT");
+        pinnedCodes.put(CommandType.SHOWMEMORYREPORT, "SHOWMEMORYREPORT");
+        pinnedCodes.put(CommandType.STATS, "STATS");
+
+        // Act, Assert
+        assertEquals(CommandType.values().length, pinnedCodes.size());
+        for (Map.Entry<CommandType, String> pinned : pinnedCodes.entrySet()) {
+            assertEquals(pinned.getValue(), CommandJournalImpl.encodeCommandType(pinned.getKey()));
+            assertEquals(pinned.getKey(), CommandJournalImpl.decodeCommandType(pinned.getValue()));
+        }
+    }
+
+    @Test
+    public void decodeCommandType_Should_ThrowException_When_CodeIsUnknown() {
+        // Act, Assert
+        assertThrows(IOException.class, () -> CommandJournalImpl.decodeCommandType("SELLVEHICLE"));
+    }
+
+    private static void saveSnapshotWithUser(Path snapshotFile, String username) throws IOException {
+        VehicleDealershipRepository repository = new VehicleDealershipRepositoryImpl();
+        execute(repository, "RegisterUser", List.of(username, "Petar", "Petrov", "123456"));
+        new RepositorySnapshot().save(repository, snapshotFile);
+    }
+
+    private void journalSnapshotLoad(Path snapshotFile) throws IOException {
+        VehicleDealershipRepository repository = new VehicleDealershipRepositoryImpl();
+        try (CommandJournalImpl journal = new CommandJournalImpl(journalFile, repository, MAX_DELAY_MILLIS)) {
+            repository.setCommandJournal(journal);
+            execute(repository,
+                    "RegisterUser", List.of("admin", "Ivan", "Ivanov", "123456", "Admin"),
+                    "LoadSnapshot", List.of(snapshotFile.toString()));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void execute(VehicleDealershipRepository repository, Object... commands) {
+        CommandFactory commandFactory = new CommandFactoryImpl(repository);
+        for (int i = 0; i < commands.length; i += 2) {
+            commandFactory.findCommand((String) commands[i]).execute((List<String>) commands[i + 1]);
+        }
+    }
+}
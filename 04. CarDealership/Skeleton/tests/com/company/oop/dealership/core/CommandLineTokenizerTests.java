@@ -0,0 +1,94 @@
+package com.company.oop.dealership.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CommandLineTokenizerTests {
+
+    private CommandLineTokenizer tokenizer;
+
+    @BeforeEach
+    public void before() {
+        tokenizer = new CommandLineTokenizer();
+    }
+
+    @Test
+    public void tokenize_Should_SplitNameAndParameters_When_LineHasNoComment() {
+        // Arrange, Act
+        tokenizer.tokenize("AddVehicle Car Opel Vectra 5000 5");
+
+        // Assert
+        assertEquals("AddVehicle", tokenizer.getCommandName());
+        assertEquals(List.of("Car", "Opel", "Vectra", "5000", "5"), tokenizer.getParameters());
+    }
+
+    @Test
+    public void tokenize_Should_ReturnNoParameters_When_LineHasOnlyName() {
+        // Arrange, Act
+        tokenizer.tokenize("Logout");
+
+        // Assert
+        assertEquals("Logout", tokenizer.getCommandName());
+        assertTrue(tokenizer.getParameters().isEmpty());
+    }
+
+    @Test
+    public void tokenize_Should_PutCommentFirst_When_LineHasComment() {
+        // Arrange, Act
+        tokenizer.tokenize("AddComment {{Amazing speed and handling!}} pesho 1");
+
+        // Assert
+        assertEquals("AddComment", tokenizer.getCommandName());
+        assertEquals(List.of("Amazing speed and handling!", "pesho", "1"), tokenizer.getParameters());
+    }
+
+    @Test
+    public void tokenize_Should_PutCommentFirst_When_CommentIsNotFirstParameter() {
+        // Arrange, Act
+        tokenizer.tokenize("AddComment pesho {{Nice one}} 1");
+
+        // Assert
+        assertEquals(List.of("Nice one", "pesho", "1"), tokenizer.getParameters());
+    }
+
+    @Test
+    public void tokenize_Should_SkipEmptyParameters_When_LineHasRepeatedSpaces() {
+        // Arrange, Act
+        tokenizer.tokenize("Login  pesho   123456 ");
+
+        // Assert
+        assertEquals(List.of("pesho", "123456"), tokenizer.getParameters());
+    }
+
+    @Test
+    public void tokenize_Should_ReplacePreviousParameters_When_CalledAgain() {
+        // Arrange
+        tokenizer.tokenize("AddComment {{Amazing speed and handling!}} pesho 1");
+
+        // Act
+        tokenizer.tokenize("ShowVehicles gosho");
+
+        // Assert
+        assertEquals("ShowVehicles", tokenizer.getCommandName());
+        assertEquals(List.of("gosho"), tokenizer.getParameters());
+    }
+
+    @Test
+    public void tokenize_Should_ThrowException_When_CommentIsNotClosed() {
+        // Arrange, Act, Assert
+        assertThrows(IllegalArgumentException.class, () -> tokenizer.tokenize("AddComment {{Amazing pesho 1"));
+    }
+
+    @Test
+    public void getParameters_Should_ReturnReadOnlyView() {
+        // Arrange
+        tokenizer.tokenize("ShowVehicles gosho");
+
+        // Act, Assert
+        assertThrows(UnsupportedOperationException.class, () -> tokenizer.getParameters().add("pesho"));
+    }
+}
@@ -0,0 +1,229 @@
+package com.company.oop.dealership.core;
+
+import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
+import com.company.oop.dealership.models.contracts.User;
+import com.company.oop.dealership.models.contracts.Vehicle;
+import com.company.oop.dealership.models.enums.UserRole;
+import com.company.oop.dealership.models.enums.VehicleGrouping;
+import com.company.oop.dealership.models.enums.VehicleType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentVehicleDealershipRepositoryTests {
+
+    private static final int THREADS = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+    private static final int OPERATIONS_PER_THREAD = 500;
+
+    private VehicleDealershipRepository repository;
+
+    @BeforeEach
+    public void before() {
+        repository = new ConcurrentVehicleDealershipRepositoryImpl();
+    }
+
+    @Test
+    public void addUser_Should_KeepEveryUser_When_UsersAreRegisteredConcurrently() throws Exception {
+        // Arrange, Act
+        runConcurrently(thread -> {
+            for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                repository.addUser(createUser("user" + thread + "x" + i, UserRole.NORMAL));
+            }
+        });
+
+        // Assert
+        assertEquals(THREADS * OPERATIONS_PER_THREAD, repository.getUsers().size());
+        for (int thread = 0; thread < THREADS; thread++) {
+            assertNotNull(repository.findUserByUsername("USER" + thread + "X" + (OPERATIONS_PER_THREAD - 1)));
+        }
+    }
+
+    @Test
+    public void addUser_Should_AcceptOnlyOneUser_When_SameUsernameIsRegisteredConcurrently() throws Exception {
+        // Arrange
+        AtomicInteger registered = new AtomicInteger();
+
+        // Act
+        runConcurrently(thread -> {
+            try {
+                repository.addUser(createUser("pesho", UserRole.NORMAL));
+                registered.incrementAndGet();
+            } catch (IllegalArgumentException e) {
+                // Somebody else was faster.
+            }
+        });
+
+        // Assert
+        assertAll(
+                () -> assertEquals(1, registered.get()),
+                () -> assertEquals(1, repository.getUsers().size()));
+    }
+
+    @Test
+    public void addVehicle_Should_EnforceLimit_When_NormalUserAddsVehiclesConcurrently() throws Exception {
+        // Arrange
+        User user = createUser("pesho", UserRole.NORMAL);
+        repository.addUser(user);
+
+        // Act
+        runConcurrently(thread -> {
+            for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                try {
+                    user.addVehicle(repository.createCar("Opel", "Vectra", 5000, 5));
+                } catch (IllegalArgumentException e) {
+                    // Over the limit.
+                }
+            }
+        });
+
+        // Assert
+        assertAll(
+                () -> assertEquals(5, user.getVehicleCount()),
+                () -> assertEquals(5, repository.findVehicles(VehicleType.CAR, null, null).size()));
+    }
+
+    @Test
+    public void addComment_Should_NotLoseComments_When_UsersCommentConcurrently() throws Exception {
+        // Arrange
+        User owner = createUser("owner", UserRole.VIP);
+        repository.addUser(owner);
+        Vehicle vehicle = repository.createCar("Opel", "Vectra", 5000, 5);
+        owner.addVehicle(vehicle);
+
+        // Act
+        runConcurrently(thread -> {
+            User user = createUser("user" + thread, UserRole.VIP);
+            repository.addUser(user);
+            for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                user.addComment(repository.createComment("Nice one", user.getUsername()), vehicle);
+                user.addVehicle(repository.createTruck("Volvo", "FH16", 1000 + i, 40));
+            }
+            for (int i = 0; i < OPERATIONS_PER_THREAD / 2; i++) {
+                user.removeVehicle(user.getVehicle(0));
+            }
+        });
+
+        // Assert
+        int remainingTrucks = THREADS * (OPERATIONS_PER_THREAD - OPERATIONS_PER_THREAD / 2);
+        assertAll(
+                () -> assertEquals(THREADS * OPERATIONS_PER_THREAD, vehicle.getCommentCount()),
+                () -> assertEquals(remainingTrucks, repository.findVehicles(VehicleType.TRUCK, "volvo", null).size()),
+                () -> assertEquals(remainingTrucks, repository.findVehiclesInPriceRange(1000, 1000 + OPERATIONS_PER_THREAD).count()));
+    }
+
+    @Test
+    public void addComment_Should_NotIndexComments_When_VehiclesAreRemovedConcurrently() throws Exception {
+        // Arrange
+        User owner = createUser("owner", UserRole.VIP);
+        repository.addUser(owner);
+        List<Vehicle> vehicles = new ArrayList<>();
+        for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+            Vehicle vehicle = repository.createCar("Opel", "Vectra", 5000 + i, 5);
+            owner.addVehicle(vehicle);
+            vehicles.add(vehicle);
+        }
+
+        // Act
+        runConcurrently(thread -> {
+            if (thread == 0) {
+                for (Vehicle vehicle : vehicles) {
+                    owner.removeVehicle(vehicle);
+                }
+                return;
+            }
+            User user = createUser("user" + thread, UserRole.VIP);
+            repository.addUser(user);
+            for (Vehicle vehicle : vehicles) {
+                user.addComment(repository.createComment("Nice one", user.getUsername()), vehicle);
+            }
+        });
+
+        // Assert
+        for (int thread = 1; thread < THREADS; thread++) {
+            assertEquals(Map.of(), repository.findCommentsByAuthor("user" + thread));
+        }
+    }
+
+    @Test
+    public void indexes_Should_AgreeWithEachOther_When_SearchedWhileChanging() throws Exception {
+        // Arrange
+        AtomicInteger searches = new AtomicInteger();
+
+        // Act
+        runConcurrently(thread -> {
+            if (thread % 2 == 0) {
+                User user = createUser("user" + thread, UserRole.VIP);
+                repository.addUser(user);
+                for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                    Vehicle vehicle = repository.createCar("Skoda", "Octavia", 2000 + i, 5);
+                    user.addVehicle(vehicle);
+                    user.addComment(repository.createComment("Nice one", user.getUsername()), vehicle);
+                    if (i % 2 == 1) {
+                        user.removeVehicle(user.getVehicle(0));
+                    }
+                }
+            } else {
+                for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                    repository.findVehicles(VehicleType.CAR, "skoda", null);
+                    repository.findVehiclesInPriceRange(2000, 2000 + OPERATIONS_PER_THREAD).count();
+                    repository.summarizePrices(VehicleGrouping.MAKE);
+                    repository.findCommentsByAuthor("user0");
+                    searches.incrementAndGet();
+                }
+            }
+        });
+
+        // Assert
+        int writers = (THREADS + 1) / 2;
+        int remainingCars = writers * OPERATIONS_PER_THREAD / 2;
+        Map<Vehicle, User> cars = repository.findVehicles(VehicleType.CAR, "skoda", null);
+        assertAll(
+                () -> assertEquals(THREADS / 2 * OPERATIONS_PER_THREAD, searches.get()),
+                () -> assertEquals(remainingCars, cars.size()),
+                () -> assertEquals(remainingCars, repository.findVehiclesInPriceRange(2000, 2000 + OPERATIONS_PER_THREAD).count()),
+                () -> assertEquals(remainingCars, repository.summarizePrices(VehicleGrouping.MAKE).get(0).getCount()),
+                () -> assertEquals(OPERATIONS_PER_THREAD / 2, repository.findCommentsByAuthor("user0").size()),
+                () -> cars.forEach((car, owner) -> assertSame(owner, repository.findVehicleById(car.getId()).getValue())));
+    }
+
+    private User createUser(String username, UserRole role) {
+        return repository.createUser(username, "First", "Last", "123456", role);
+    }
+
+    /**
+     * Runs the task on {@link #THREADS} threads, released at the same time, and rethrows the first failure.
+     */
+    private static void runConcurrently(IntConsumer task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                int threadNumber = thread;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.accept(threadNumber);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
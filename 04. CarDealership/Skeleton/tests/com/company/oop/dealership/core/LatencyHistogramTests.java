@@ -0,0 +1,88 @@
+package com.company.oop.dealership.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatencyHistogramTests {
+
+    private LatencyHistogram histogram;
+
+    @BeforeEach
+    public void before() {
+        histogram = new LatencyHistogram();
+    }
+
+    @Test
+    public void getPercentile_Should_ReturnZero_When_NothingIsRecorded() {
+        // Arrange, Act, Assert
+        assertEquals(0, histogram.getPercentile(50));
+    }
+
+    @Test
+    public void getPercentile_Should_ReturnExactValue_When_ValuesAreSmall() {
+        // Arrange
+        for (int i = 1; i <= 10; i++) {
+            histogram.record(i);
+        }
+
+        // Act, Assert
+        assertAll(
+                () -> assertEquals(5, histogram.getPercentile(50)),
+                () -> assertEquals(9, histogram.getPercentile(90)),
+                () -> assertEquals(10, histogram.getPercentile(100)));
+    }
+
+    @Test
+    public void getPercentile_Should_StayWithinBucketPrecision_When_ValuesAreLarge() {
+        // Arrange
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        // Act
+        long p99 = histogram.getPercentile(99);
+
+        // Assert
+        assertTrue(p99 >= 990_000 && p99 <= 990_000 * 1.125, String.valueOf(p99));
+    }
+
+    @Test
+    public void getPercentile_Should_NotExceedMax() {
+        // Arrange
+        histogram.record(1_000_001);
+
+        // Act, Assert
+        assertEquals(1_000_001, histogram.getPercentile(99));
+    }
+
+    @Test
+    public void getPercentile_Should_ThrowException_When_PercentileIsOutOfRange() {
+        // Arrange, Act, Assert
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(101));
+    }
+
+    @Test
+    public void getCount_Should_CountEveryRecordedValue() {
+        // Arrange
+        histogram.record(0);
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        // Act, Assert
+        assertAll(
+                () -> assertEquals(3, histogram.getCount()),
+                () -> assertEquals(Long.MAX_VALUE, histogram.getMax()));
+    }
+
+    @Test
+    public void upperBoundOf_Should_ContainEveryValueOfBucket() {
+        // Arrange, Act, Assert
+        for (long value = 0; value < 100_000; value += 7) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            assertTrue(value <= LatencyHistogram.upperBoundOf(bucket));
+            assertTrue(bucket == 0 || value > LatencyHistogram.upperBoundOf(bucket - 1));
+        }
+    }
+}
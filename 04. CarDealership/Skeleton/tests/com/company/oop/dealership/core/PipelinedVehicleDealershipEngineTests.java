@@ -0,0 +1,70 @@
+package com.company.oop.dealership.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.time.Duration;
+
+import static com.company.oop.dealership.core.BatchVehicleDealershipEngineTests.SCRIPT;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PipelinedVehicleDealershipEngineTests {
+
+    @Test
+    public void start_Should_PrintSameOutputAsBatchEngine() {
+        // Arrange
+        StringWriter expected = new StringWriter();
+        new BatchVehicleDealershipEngineImpl(new StringReader(SCRIPT), expected).start();
+        StringWriter output = new StringWriter();
+
+        // Act
+        new PipelinedVehicleDealershipEngineImpl(new StringReader(SCRIPT), output).start();
+
+        // Assert
+        assertEquals(expected.toString(), output.toString());
+    }
+
+    @Test
+    public void start_Should_KeepInputOrder_When_QueuesAreSmall() {
+        // Arrange
+        StringBuilder script = new StringBuilder("RegisterUser pesho Petar Petrov 123456 VIP");
+        for (int i = 0; i < 500; i++) {
+            script.append(System.lineSeparator()).append(i % 2 == 0
+                    ? "AddVehicle Car Opel Vectra " + i + " 5"
+                    : "AddComment {{Comment " + i + "}} pesho " + i / 2);
+        }
+        String input = script.toString();
+        StringWriter expected = new StringWriter();
+        new BatchVehicleDealershipEngineImpl(new StringReader(input), expected).start();
+        StringWriter output = new StringWriter();
+
+        // Act
+        new PipelinedVehicleDealershipEngineImpl(new StringReader(input), output, 1).start();
+
+        // Assert
+        assertEquals(expected.toString(), output.toString());
+    }
+
+    @Test
+    public void start_Should_ThrowException_When_OutputFailsWithRuntimeException() {
+        // Arrange
+        StringBuilder script = new StringBuilder("RegisterUser pesho Petar Petrov 123456 VIP");
+        for (int i = 0; i < 5000; i++) {
+            script.append(System.lineSeparator()).append("AddVehicle Car Opel Vectra ").append(i).append(" 5");
+        }
+        Writer failingOutput = new StringWriter() {
+            @Override
+            public void write(char[] buffer, int offset, int length) {
+                throw new IllegalStateException("Output closed");
+            }
+        };
+        PipelinedVehicleDealershipEngineImpl engine =
+                new PipelinedVehicleDealershipEngineImpl(new StringReader(script.toString()), failingOutput, 1);
+
+        // Act, Assert
+        assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> assertThrows(IllegalStateException.class, engine::start));
+    }
+}
@@ -0,0 +1,69 @@
+package com.company.oop.dealership.core;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.company.oop.dealership.core.BatchVehicleDealershipEngineTests.SCRIPT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ReplayVehicleDealershipEngineTests {
+
+    private Path scriptFile;
+    private ByteArrayOutputStream progress;
+
+    @BeforeEach
+    public void before() throws IOException {
+        scriptFile = Files.createTempFile("dealership", ".script");
+        progress = new ByteArrayOutputStream();
+    }
+
+    @AfterEach
+    public void after() throws IOException {
+        Files.deleteIfExists(scriptFile);
+    }
+
+    @Test
+    public void start_Should_PrintSameOutputAsBatchEngine() throws IOException {
+        // Arrange
+        Files.writeString(scriptFile, SCRIPT, StandardCharsets.UTF_8);
+        StringWriter output = new StringWriter();
+
+        // Act
+        new ReplayVehicleDealershipEngineImpl(scriptFile, output, new PrintStream(progress)).start();
+
+        // Assert
+        assertEquals(runBatch(SCRIPT), output.toString());
+        assertTrue(progress.toString().contains("(100%)"));
+    }
+
+    @Test
+    public void start_Should_ReadLinesAcrossWindows_When_WindowIsSmall() throws IOException {
+        // Arrange
+        String script = SCRIPT.replace(System.lineSeparator(), "\r\n");
+        Files.writeString(scriptFile, script, StandardCharsets.UTF_8);
+        StringWriter output = new StringWriter();
+
+        // Act
+        new ReplayVehicleDealershipEngineImpl(scriptFile, output, new PrintStream(progress), 64).start();
+
+        // Assert
+        assertEquals(runBatch(SCRIPT), output.toString());
+    }
+
+    private static String runBatch(String script) {
+        StringWriter output = new StringWriter();
+        new BatchVehicleDealershipEngineImpl(new StringReader(script), output).start();
+        return output.toString();
+    }
+}
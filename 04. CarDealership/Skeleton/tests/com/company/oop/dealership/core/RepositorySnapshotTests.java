@@ -0,0 +1,268 @@
+package com.company.oop.dealership.core;
+
+import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
+import com.company.oop.dealership.models.contracts.*;
+import com.company.oop.dealership.models.enums.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.company.oop.dealership.models.UserImplTests.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RepositorySnapshotTests {
+
+    private Path snapshotFile;
+    private VehicleDealershipRepository repository;
+
+    @BeforeEach
+    public void before() throws IOException {
+        snapshotFile = Files.createTempFile("dealership", ".snapshot");
+        repository = new VehicleDealershipRepositoryImpl();
+    }
+
+    @AfterEach
+    public void after() throws IOException {
+        Files.deleteIfExists(snapshotFile);
+    }
+
+    @Test
+    public void load_Should_RestoreUsersVehiclesAndComments_When_SnapshotWasSaved() throws IOException {
+        // Arrange
+        User user = repository.createUser(VALID_USERNAME, VALID_FIRST_NAME, VALID_LAST_NAME, VALID_PASSWORD, UserRole.VIP);
+        Car car = repository.createCar("Opel", "Vectra", 5000.5, 5);
+        car.addComment(repository.createComment("Nice and cheap", "pesho"));
+        user.addVehicle(car);
+        user.addVehicle(repository.createMotorcycle("Honda", "Shadow", 3000, "Cruiser"));
+        user.addVehicle(repository.createTruck("Volvo", "FH", 40000, 30));
+        repository.addUser(user);
+        repository.addUser(repository.createUser("admin", "Ivan", "Petrov", VALID_PASSWORD, UserRole.ADMIN));
+        new RepositorySnapshot().save(repository, snapshotFile);
+        VehicleDealershipRepository loaded = new VehicleDealershipRepositoryImpl();
+
+        // Act
+        RepositorySnapshot snapshot = new RepositorySnapshot();
+        snapshot.load(snapshotFile, loaded);
+
+        // Assert
+        assertEquals(2, snapshot.getUserCount());
+        assertEquals(3, snapshot.getVehicleCount());
+        assertEquals(1, snapshot.getCommentCount());
+        for (User expected : repository.getUsers()) {
+            User actual = loaded.findUserByUsername(expected.getUsername());
+            assertEquals(expected.toString(), actual.toString());
+            assertEquals(expected.getPassword(), actual.getPassword());
+            assertEquals(expected.printVehicles(), actual.printVehicles());
+        }
+        assertEquals(1, loaded.findVehiclesInPriceRange(2000, 4000).count());
+    }
+
+    @Test
+    public void load_Should_KeepVehicleAndCommentIds_When_RepositoryIsEmpty() throws IOException {
+        // Arrange
+        User user = initializeTestUser();
+        repository.addUser(user);
+        Car car = repository.createCar("Opel", "Vectra", 5000, 5);
+        user.addVehicle(car);
+        user.addComment(repository.createComment("First comment", "pesho"), car);
+        Comment second = repository.createComment("Second comment", "pesho");
+        user.addComment(second, car);
+        new RepositorySnapshot().save(repository, snapshotFile);
+        VehicleDealershipRepository loaded = new VehicleDealershipRepositoryImpl();
+
+        // Act
+        new RepositorySnapshot().load(snapshotFile, loaded);
+
+        // Assert
+        assertEquals(user.getUsername(), loaded.findVehicleById(car.getId()).getValue().getUsername());
+        assertEquals(second.getContent(), loaded.findCommentById(second.getId()).getKey().getContent());
+        assertEquals(2, loaded.findCommentsByAuthor("pesho").size());
+        assertTrue(loaded.createComment("Third comment", "pesho").getId() > second.getId());
+    }
+
+    @Test
+    public void load_Should_KeepVehicleAndCommentIds_When_RepositoryIsNotEmpty() throws IOException {
+        // Arrange
+        User user = initializeTestUser();
+        repository.addUser(user);
+        Car car = repository.createCar("Opel", "Vectra", 5000, 5);
+        user.addVehicle(car);
+        Comment comment = repository.createComment("First comment", "pesho");
+        user.addComment(comment, car);
+        new RepositorySnapshot().save(repository, snapshotFile);
+        VehicleDealershipRepository loaded = new VehicleDealershipRepositoryImpl();
+        loaded.addUser(loaded.createUser("admin", "Ivan", "Petrov", VALID_PASSWORD, UserRole.ADMIN));
+
+        // Act
+        new RepositorySnapshot().load(snapshotFile, loaded);
+
+        // Assert
+        assertEquals(user.getUsername(), loaded.findVehicleById(car.getId()).getValue().getUsername());
+        assertEquals(comment.getContent(), loaded.findCommentById(comment.getId()).getKey().getContent());
+    }
+
+    @Test
+    public void load_Should_GiveNewIds_When_SavedIdsAreTaken() throws IOException {
+        // Arrange
+        User user = initializeTestUser();
+        repository.addUser(user);
+        Car car = repository.createCar("Opel", "Vectra", 5000, 5);
+        user.addVehicle(car);
+        user.addComment(repository.createComment("First comment", "pesho"), car);
+        new RepositorySnapshot().save(repository, snapshotFile);
+        VehicleDealershipRepository loaded = new VehicleDealershipRepositoryImpl();
+        User other = loaded.createUser("gosho", "Georgi", "Petrov", VALID_PASSWORD, UserRole.VIP);
+        loaded.addUser(other);
+        Car otherCar = loaded.createCar("Audi", "A4", 9000, 5);
+        other.addVehicle(otherCar);
+        Comment otherComment = loaded.createComment("Other comment", "gosho");
+        other.addComment(otherComment, otherCar);
+
+        // Act
+        new RepositorySnapshot().load(snapshotFile, loaded);
+
+        // Assert
+        Vehicle loadedCar = loaded.findUserByUsername(user.getUsername()).getVehicle(0);
+        assertNotEquals(otherCar.getId(), loadedCar.getId());
+        assertNotEquals(otherComment.getId(), loadedCar.getComment(0).getId());
+        assertSame(otherCar, loaded.findVehicleById(otherCar.getId()).getKey());
+        assertSame(loadedCar, loaded.findVehicleById(loadedCar.getId()).getKey());
+        assertSame(otherComment, loaded.findCommentById(otherComment.getId()).getKey());
+        assertSame(loadedCar.getComment(0), loaded.findCommentById(loadedCar.getComment(0).getId()).getKey());
+    }
+
+    @Test
+    public void renderVehicles_Should_PageInIdOrder_When_LoadedIdsClashed() throws IOException {
+        // Arrange
+        User user = initializeTestUser();
+        repository.addUser(user);
+        Car opel = repository.createCar("Opel", "Vectra", 5000, 5);
+        user.addVehicle(opel);
+        Car bmw = repository.createCar("BMW", "X5", 7000, 5);
+        user.addVehicle(bmw);
+        new RepositorySnapshot().save(repository, snapshotFile);
+        VehicleDealershipRepository loaded = new VehicleDealershipRepositoryImpl();
+        User other = loaded.createUser("gosho", "Georgi", "Petrov", VALID_PASSWORD, UserRole.VIP);
+        loaded.addUser(other);
+        other.addVehicle(loaded.createCar("Audi", "A4", 9000, 5));
+        new RepositorySnapshot().load(snapshotFile, loaded);
+        User loadedUser = loaded.findUserByUsername(user.getUsername());
+        // The first vehicle clashed with the Audi and now has a bigger id than the second one.
+        assertTrue(loadedUser.getVehicle(0).getId() > loadedUser.getVehicle(1).getId());
+        StringBuilder firstPage = new StringBuilder();
+        StringBuilder secondPage = new StringBuilder();
+
+        // Act
+        long cursor = loadedUser.renderVehicles(firstPage, Vehicle.NO_ID, 1);
+        long lastCursor = loadedUser.renderVehicles(secondPage, cursor, 1);
+
+        // Assert
+        assertEquals(loadedUser.getVehicle(0).getId(), cursor);
+        assertEquals(Vehicle.NO_ID, lastCursor);
+        assertTrue(firstPage.toString().contains("BMW"));
+        assertTrue(secondPage.toString().contains("Opel"));
+    }
+
+    @Test
+    public void load_Should_KeepPriceInCents_When_SnapshotWasSaved() throws IOException {
+        // Arrange
+        User user = initializeTestUser();
+        user.addVehicle(repository.createCar("Opel", "Vectra", 987654.32, 5));
+        repository.addUser(user);
+        new RepositorySnapshot().save(repository, snapshotFile);
+        VehicleDealershipRepository loaded = new VehicleDealershipRepositoryImpl();
+
+        // Act
+        new RepositorySnapshot().load(snapshotFile, loaded);
+
+        // Assert
+        assertEquals(98765432, loaded.findUserByUsername(user.getUsername()).getVehicle(0).getPriceCents());
+    }
+
+    @Test
+    public void load_Should_NotGiveRemovedCommentIdsAgain_When_SnapshotWasSaved() throws IOException {
+        // Arrange
+        User user = initializeTestUser();
+        repository.addUser(user);
+        Car car = repository.createCar("Opel", "Vectra", 5000, 5);
+        user.addVehicle(car);
+        user.addComment(repository.createComment("First comment", user.getUsername()), car);
+        Comment removed = repository.createComment("Second comment", user.getUsername());
+        user.addComment(removed, car);
+        user.removeComment(removed, car);
+        new RepositorySnapshot().save(repository, snapshotFile);
+        VehicleDealershipRepository loaded = new VehicleDealershipRepositoryImpl();
+
+        // Act
+        new RepositorySnapshot().load(snapshotFile, loaded);
+
+        // Assert
+        assertTrue(loaded.createComment("Third comment", "pesho").getId() > removed.getId());
+    }
+
+    @Test
+    public void load_Should_NotGiveRemovedVehicleIdsAgain_When_SnapshotWasSaved() throws IOException {
+        // Arrange
+        User user = initializeTestUser();
+        repository.addUser(user);
+        user.addVehicle(repository.createCar("Opel", "Vectra", 5000, 5));
+        Car removed = repository.createCar("Opel", "Astra", 6000, 5);
+        user.addVehicle(removed);
+        user.removeVehicle(removed);
+        new RepositorySnapshot().save(repository, snapshotFile);
+        VehicleDealershipRepository loaded = new VehicleDealershipRepositoryImpl();
+        new RepositorySnapshot().load(snapshotFile, loaded);
+        Car added = loaded.createCar("Opel", "Corsa", 4000, 5);
+
+        // Act
+        loaded.findUserByUsername(user.getUsername()).addVehicle(added);
+
+        // Assert
+        assertTrue(added.getId() > removed.getId());
+    }
+
+    @Test
+    public void load_Should_SkipUser_When_UsernameIsAlreadyRegistered() throws IOException {
+        // Arrange
+        User user = initializeTestUser();
+        repository.addUser(user);
+        new RepositorySnapshot().save(repository, snapshotFile);
+
+        // Act
+        RepositorySnapshot snapshot = new RepositorySnapshot();
+        snapshot.load(snapshotFile, repository);
+
+        // Assert
+        assertEquals(0, snapshot.getUserCount());
+        assertEquals(1, repository.getUsers().size());
+    }
+
+    @Test
+    public void load_Should_ThrowException_When_FileIsNotSnapshot() throws IOException {
+        // Arrange
+        Files.writeString(snapshotFile, "RegisterUser pesho Petar Petrov 123456");
+
+        // Act, Assert
+        assertThrows(IOException.class, () -> new RepositorySnapshot().load(snapshotFile, repository));
+    }
+
+    @Test
+    public void load_Should_ThrowException_When_RoleIsCorrupt() throws IOException {
+        // Arrange
+        repository.addUser(initializeTestUser());
+        new RepositorySnapshot().save(repository, snapshotFile);
+        byte[] bytes = Files.readAllBytes(snapshotFile);
+        // The role of the only user comes right before its vehicle count.
+        bytes[bytes.length - Integer.BYTES - 1] = Byte.MAX_VALUE;
+        Files.write(snapshotFile, bytes);
+        VehicleDealershipRepository loaded = new VehicleDealershipRepositoryImpl();
+
+        // Act, Assert
+        assertThrows(IOException.class, () -> new RepositorySnapshot().load(snapshotFile, loaded));
+        assertTrue(loaded.getUsers().isEmpty());
+    }
+}
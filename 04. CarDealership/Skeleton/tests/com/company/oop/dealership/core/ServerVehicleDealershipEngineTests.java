@@ -0,0 +1,178 @@
+package com.company.oop.dealership.core;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ServerVehicleDealershipEngineTests {
+
+    private ServerVehicleDealershipEngineImpl server;
+    private Thread serverThread;
+
+    @BeforeEach
+    public void before() {
+        server = new ServerVehicleDealershipEngineImpl(0);
+        serverThread = new Thread(server::start);
+        serverThread.start();
+    }
+
+    @AfterEach
+    public void after() throws InterruptedException {
+        server.stop();
+        serverThread.join();
+    }
+
+    @Test
+    public void sessions_Should_KeepSeparateLoggedInUsers() throws IOException {
+        try (Terminal pesho = new Terminal(server.getPort()); Terminal gosho = new Terminal(server.getPort())) {
+            // Arrange
+            pesho.send("RegisterUser pesho Petar Petrov 123456");
+            gosho.send("RegisterUser gosho Georgi Georgiev 123457 VIP");
+
+            // Act
+            String peshoResult = pesho.send("AddVehicle Car Opel Vectra 5000 5");
+            String goshoResult = gosho.send("AddVehicle Car BMW Z3 11200 2");
+
+            // Assert
+            assertEquals("pesho added vehicle successfully!", peshoResult);
+            assertEquals("gosho added vehicle successfully!", goshoResult);
+        }
+    }
+
+    @Test
+    public void sessions_Should_ShareUsers() throws IOException {
+        try (Terminal pesho = new Terminal(server.getPort()); Terminal other = new Terminal(server.getPort())) {
+            // Arrange
+            pesho.send("RegisterUser pesho Petar Petrov 123456");
+            pesho.send("Logout");
+
+            // Act
+            String result = other.send("Login pesho 123456");
+
+            // Assert
+            assertEquals("User pesho successfully logged in!", result);
+        }
+    }
+
+    @Test
+    public void sessions_Should_ApplyEveryChange_When_ChangingInParallel() throws Exception {
+        // Arrange
+        int terminals = 4;
+        int vehiclesPerTerminal = 25;
+        ConcurrentVehicleDealershipRepositoryImpl repository = new ConcurrentVehicleDealershipRepositoryImpl();
+        ServerVehicleDealershipEngineImpl sharedServer = new ServerVehicleDealershipEngineImpl(0, repository);
+        Thread sharedServerThread = new Thread(sharedServer::start);
+        sharedServerThread.start();
+        ExecutorService clients = Executors.newFixedThreadPool(terminals);
+        List<Future<?>> results = new ArrayList<>();
+
+        // Act
+        try {
+            for (int i = 0; i < terminals; i++) {
+                String username = "user" + i;
+                results.add(clients.submit(() -> {
+                    try (Terminal terminal = new Terminal(sharedServer.getPort())) {
+                        terminal.send("RegisterUser " + username + " First Last 123456 VIP");
+                        for (int j = 0; j < vehiclesPerTerminal; j++) {
+                            terminal.send("AddVehicle Car Opel Vectra " + j + " 5");
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            clients.shutdown();
+            sharedServer.stop();
+            sharedServerThread.join();
+        }
+
+        // Assert
+        assertEquals(terminals * vehiclesPerTerminal, repository.findVehicles(null, "Opel", null).size());
+    }
+
+    @Test
+    public void sessions_Should_NotWaitForOtherSessionsChange_When_CommandOnlyReads() throws Exception {
+        // Arrange
+        long maxDelayMillis = 10_000;
+        Path journalFile = Files.createTempFile("dealership", ".journal");
+        ConcurrentVehicleDealershipRepositoryImpl repository = new ConcurrentVehicleDealershipRepositoryImpl();
+        CommandJournalImpl journal = new CommandJournalImpl(journalFile, repository, maxDelayMillis);
+        repository.setCommandJournal(journal);
+        ServerVehicleDealershipEngineImpl journaledServer = new ServerVehicleDealershipEngineImpl(0, repository);
+        Thread journaledServerThread = new Thread(journaledServer::start);
+        journaledServerThread.start();
+        ExecutorService changer = Executors.newSingleThreadExecutor();
+        try (Terminal pesho = new Terminal(journaledServer.getPort()); Terminal reader = new Terminal(journaledServer.getPort())) {
+            // The change waits for its batch to be forced, which the journal delays until it is closed.
+            Future<String> change = changer.submit(() -> pesho.send("RegisterUser pesho Petar Petrov 123456"));
+            while (journal.getLastSequence() == 0) {
+                Thread.sleep(1);
+            }
+
+            // Act
+            long startNanos = System.nanoTime();
+            reader.send("Login gosho 123456");
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+            // Assert
+            assertTrue(elapsedMillis < maxDelayMillis / 2);
+            assertFalse(change.isDone());
+            journal.close();
+            assertEquals("User pesho registered successfully!", change.get());
+        } finally {
+            changer.shutdown();
+            journal.close();
+            journaledServer.stop();
+            journaledServerThread.join();
+            Files.deleteIfExists(journalFile);
+        }
+    }
+
+    private static class Terminal implements AutoCloseable {
+
+        private final Socket socket;
+        private final PrintWriter writer;
+        private final BufferedReader reader;
+
+        private Terminal(int port) throws IOException {
+            socket = new Socket(InetAddress.getLoopbackAddress(), port);
+            writer = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+            reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        }
+
+        private String send(String command) throws IOException {
+            writer.println(command);
+            String result = reader.readLine();
+            reader.readLine();
+            return result;
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+}
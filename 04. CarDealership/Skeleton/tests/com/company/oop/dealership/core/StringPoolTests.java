@@ -0,0 +1,134 @@
+package com.company.oop.dealership.core;
+
+import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
+import com.company.oop.dealership.models.UserImplTests;
+import com.company.oop.dealership.models.contracts.Motorcycle;
+import com.company.oop.dealership.models.contracts.User;
+import com.company.oop.dealership.models.contracts.Vehicle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StringPoolTests {
+
+    private StringPool pool;
+
+    @BeforeEach
+    public void before() {
+        pool = new StringPool("Makes");
+    }
+
+    @Test
+    public void intern_Should_ReturnPooledInstance_When_EqualStringIsRetained() {
+        // Arrange
+        String first = new String("Opel");
+        pool.retain(first);
+
+        // Act
+        String second = pool.intern(new String("Opel"));
+        pool.retain(second);
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, pool.getDistinctCount());
+        assertEquals(2, pool.getReferenceCount());
+        assertEquals(StringPool.sizeOf("Opel"), pool.getBytesSaved());
+    }
+
+    @Test
+    public void retain_Should_NotCountSavedBytes_When_EqualCopyIsRetained() {
+        // Arrange
+        pool.retain(new String("Opel"));
+
+        // Act
+        pool.retain(new String("Opel"));
+
+        // Assert
+        assertEquals(2, pool.getReferenceCount());
+        assertEquals(0, pool.getBytesSaved());
+    }
+
+    @Test
+    public void release_Should_DropValue_When_LastReferenceIsReleased() {
+        // Arrange
+        String make = pool.intern("Opel");
+        pool.retain(make);
+        pool.retain(make);
+
+        // Act
+        pool.release(make);
+        long bytesSavedAfterFirst = pool.getBytesSaved();
+        pool.release(make);
+
+        // Assert
+        assertEquals(0, bytesSavedAfterFirst);
+        assertEquals(0, pool.getDistinctCount());
+        assertEquals(0, pool.getReferenceCount());
+        assertEquals(0, pool.getBytesSaved());
+    }
+
+    @Test
+    public void intern_Should_ReturnValue_When_ValueIsTooLongToPool() {
+        // Arrange
+        String value = "x".repeat(StringPool.MAX_POOLED_LENGTH + 1);
+
+        // Act, Assert
+        assertSame(value, pool.intern(value));
+        assertEquals(0, pool.getDistinctCount());
+    }
+
+    @Test
+    public void sizeOf_Should_CountTwoBytesPerChar_When_StringIsNotLatin1() {
+        // Arrange, Act, Assert
+        assertAll(
+                () -> assertEquals(24 + 24, StringPool.sizeOf("Opel")),
+                () -> assertEquals(24 + 32, StringPool.sizeOf("\u0160koda")),
+                () -> assertEquals(24 + 40, StringPool.sizeOf("\u0160koda Fabia")));
+    }
+
+    @Test
+    public void createVehicle_Should_ShareMakeModelAndCategory_When_RepositoryHasVehicleWithThem() {
+        // Arrange
+        VehicleDealershipRepository repository = new VehicleDealershipRepositoryImpl();
+        User user = UserImplTests.initializeTestUser();
+        repository.addUser(user);
+
+        // Act
+        Vehicle car = repository.createCar(new String("Honda"), new String("Civic"), 5000, 5);
+        user.addVehicle(car);
+        Motorcycle first = repository.createMotorcycle(new String("Honda"), new String("Shadow"), 3000, new String("Cruiser"));
+        user.addVehicle(first);
+        Motorcycle second = repository.createMotorcycle(new String("Honda"), new String("Shadow"), 3500, new String("Cruiser"));
+
+        // Assert
+        assertAll(
+                () -> assertSame(car.getMake(), first.getMake()),
+                () -> assertSame(first.getModel(), second.getModel()),
+                () -> assertSame(first.getCategory(), second.getCategory()),
+                () -> assertEquals(3, repository.getStringPools().size()));
+    }
+
+    @Test
+    public void removeVehicle_Should_ReleaseMakeAndModel_When_VehicleLeavesRepository() {
+        // Arrange
+        VehicleDealershipRepository repository = new VehicleDealershipRepositoryImpl();
+        User user = UserImplTests.initializeTestUser();
+        repository.addUser(user);
+        Vehicle car = repository.createCar("Honda", "Civic", 5000, 5);
+        user.addVehicle(car);
+        user.addVehicle(repository.createCar("Honda", "Accord", 6000, 5));
+
+        // Act
+        user.removeVehicle(car);
+
+        // Assert
+        StringPool makes = repository.getStringPools().get(0);
+        StringPool models = repository.getStringPools().get(1);
+        assertAll(
+                () -> assertEquals(1, makes.getReferenceCount()),
+                () -> assertEquals(0, makes.getBytesSaved()),
+                () -> assertEquals(1, models.getDistinctCount()),
+                () -> assertEquals(1, models.getReferenceCount()));
+    }
+}
@@ -2,6 +2,7 @@ package com.company.oop.dealership.core;
 
 import com.company.oop.dealership.commands.LoginTests;
 import com.company.oop.dealership.core.contracts.VehicleDealershipRepository;
+import com.company.oop.dealership.exceptions.InvalidUserInputException;
 import com.company.oop.dealership.models.UserImplTests;
 import com.company.oop.dealership.models.contracts.*;
 import com.company.oop.dealership.models.enums.UserRole;
@@ -10,6 +11,8 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static com.company.oop.dealership.models.CarImplTests.VALID_SEATS;
 import static com.company.oop.dealership.models.CommentImplTests.VALID_AUTHOR;
 import static com.company.oop.dealership.models.CommentImplTests.VALID_CONTENT;
@@ -31,10 +34,8 @@ public class VehicleDealershipRepositoryTests {
         // Arrange
         User user = addInitializedUserToRepo(repository);
 
-        // Act
-        repository.addUser(user);
-
-        // Assert
+        // Act, Assert
+        assertThrows(InvalidUserInputException.class, () -> repository.addUser(user));
         assertEquals(1, repository.getUsers().size());
     }
 
@@ -50,6 +51,49 @@ public class VehicleDealershipRepositoryTests {
         assertEquals(1, repository.getUsers().size());
     }
 
+    @Test
+    public void addUser_Should_ThrowException_When_UsernameDiffersOnlyInCase() {
+        // Arrange
+        User user = addInitializedUserToRepo(repository);
+        User sameUsername = repository.createUser(user.getUsername().toUpperCase(),
+                "Other", "Name", UserImplTests.VALID_PASSWORD, UserRole.VIP);
+
+        // Act, Assert
+        assertThrows(IllegalArgumentException.class, () -> repository.addUser(sameUsername));
+    }
+
+    @Test
+    public void getUsers_Should_ReturnUsersInRegistrationOrder() {
+        // Arrange
+        String[] usernames = {"zed", "Ann", "mike", "bob"};
+        for (String username : usernames) {
+            repository.addUser(repository.createUser(username, UserImplTests.VALID_FIRST_NAME,
+                    UserImplTests.VALID_LAST_NAME, UserImplTests.VALID_PASSWORD, UserRole.NORMAL));
+        }
+
+        // Act
+        List<User> users = repository.getUsers();
+
+        // Assert
+        for (int i = 0; i < usernames.length; i++) {
+            assertEquals(usernames[i], users.get(i).getUsername());
+        }
+    }
+
+    @Test
+    public void getUsers_Should_ReturnReadOnlyView() {
+        // Arrange
+        List<User> users = repository.getUsers();
+
+        // Act
+        User user = addInitializedUserToRepo(repository);
+
+        // Assert
+        assertAll(
+                () -> assertEquals(List.of(user), users),
+                () -> assertThrows(UnsupportedOperationException.class, () -> users.add(user)));
+    }
+
     @Test
     public void findUserByUsername_Should_ThrowException_When_UserDoesNotExist() {
         //Arrange, Act, Assert
@@ -72,6 +116,18 @@ public class VehicleDealershipRepositoryTests {
                 () -> assertEquals(user.getRole(), foundUser.getRole()));
     }
 
+    @Test
+    public void findUserByUsername_Should_ReturnUser_When_UsernameDiffersInCase() {
+        // Arrange
+        User user = addInitializedUserToRepo(repository);
+
+        // Act
+        User foundUser = repository.findUserByUsername(user.getUsername().toUpperCase());
+
+        // Assert
+        assertSame(user, foundUser);
+    }
+
     @Test
     public void getLoggedInUser_Should_ThrowException_When_NoUserIsLoggedIn() {
         //Arrange, Act, Assert
@@ -1,6 +1,7 @@
 package com.company.oop.dealership.models;
 
 import com.company.oop.dealership.models.contracts.Car;
+import com.company.oop.dealership.models.contracts.Comment;
 import com.company.oop.dealership.models.contracts.Vehicle;
 import com.company.oop.dealership.utils.VehicleBaseConstants;
 import org.junit.jupiter.api.Assertions;
@@ -60,6 +61,17 @@ public class CarImplTests {
                         VALID_SEATS));
     }
 
+    @Test
+    public void constructor_Should_ThrowException_When_PriceIsNaN() {
+        // Arrange, Act, Assert
+        assertThrows(IllegalArgumentException.class, () ->
+                new CarImpl(
+                        VehicleBaseConstants.VALID_MAKE,
+                        VehicleBaseConstants.VALID_MODEL,
+                        Double.NaN,
+                        VALID_SEATS));
+    }
+
     @Test
     public void constructor_Should_ThrowException_When_SeatsValueIsInvalidOrNegative() {
         // Arrange, Act, Assert
@@ -97,6 +109,21 @@ public class CarImplTests {
         assertEquals(0, car.getComments().size());
     }
 
+    @Test
+    public void getComment_Should_ReturnCommentOnIndex() {
+        // Arrange
+        CarImpl car = initializeTestCar();
+        Comment comment = CommentImplTests.initializeTestComment();
+
+        // Act
+        car.addComment(comment);
+
+        // Assert
+        assertAll(
+                () -> assertEquals(1, car.getCommentCount()),
+                () -> assertSame(comment, car.getComment(0)));
+    }
+
     @Test
     public void addComment_Should_AddCommentToTheCollection() {
         // Arrange
@@ -124,6 +151,42 @@ public class CarImplTests {
         assertEquals(0, car.getComments().size());
     }
 
+    @Test
+    public void removeComment_Should_RenderNoComments_When_LastCommentIsRemoved() {
+        // Arrange
+        CarImpl car = initializeTestCar();
+        String withoutComments = car.toString();
+        CommentImpl comment = CommentImplTests.initializeTestComment();
+        car.addComment(comment);
+
+        // Act
+        car.removeComment(comment);
+
+        // Assert
+        assertEquals(0, car.getCommentCount());
+        assertEquals(withoutComments, car.toString());
+    }
+
+    @Test
+    public void getPrice_Should_KeepPriceInWholeCents() {
+        // Arrange, Act
+        CarImpl car = new CarImpl(VehicleBaseConstants.VALID_MAKE, VehicleBaseConstants.VALID_MODEL, 1999.99, VALID_SEATS);
+        CarImpl maxPriceCar = new CarImpl(VehicleBaseConstants.VALID_MAKE, VehicleBaseConstants.VALID_MODEL, 999999.99, VALID_SEATS);
+
+        // Assert
+        assertAll(
+                () -> assertEquals(199999, car.getPriceCents()),
+                () -> assertEquals(1999.99, car.getPrice()),
+                () -> assertEquals(99999999, maxPriceCar.getPriceCents()));
+    }
+
+    @Test
+    public void constructor_Should_ThrowException_When_PriceHasFractionOfCent() {
+        // Arrange, Act, Assert
+        assertThrows(IllegalArgumentException.class, () ->
+                new CarImpl(VehicleBaseConstants.VALID_MAKE, VehicleBaseConstants.VALID_MODEL, 0.125, VALID_SEATS));
+    }
+
     public static CarImpl initializeTestCar() {
         return new CarImpl(
                 VehicleBaseConstants.VALID_MAKE,
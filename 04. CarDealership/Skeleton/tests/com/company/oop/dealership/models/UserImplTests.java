@@ -4,12 +4,16 @@ import com.company.oop.dealership.models.enums.UserRole;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import static com.company.oop.dealership.models.CarImplTests.initializeTestCar;
 import static com.company.oop.dealership.models.CommentImplTests.VALID_AUTHOR;
 import static com.company.oop.dealership.models.CommentImplTests.VALID_CONTENT;
-import static com.company.oop.dealership.models.UserImpl.VIP_MAX_VEHICLES_TO_ADD;
 import static com.company.oop.dealership.utils.TestUtilities.*;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class UserImplTests {
     public static final int USERNAME_LEN_MIN = 2;
@@ -122,6 +126,21 @@ public class UserImplTests {
         assertEquals(0, user.getVehicles().size());
     }
 
+    @Test
+    public void getVehicle_Should_ReturnVehicleOnIndex() {
+        // Arrange
+        UserImpl user = initializeTestUser();
+        CarImpl car = initializeTestCar();
+
+        // Act
+        user.addVehicle(car);
+
+        // Assert
+        assertAll(
+                () -> assertEquals(1, user.getVehicleCount()),
+                () -> assertSame(car, user.getVehicle(0)));
+    }
+
     @Test
     public void addComment_Should_AddCommentToTheCollection() {
         // Arrange
@@ -154,7 +173,7 @@ public class UserImplTests {
     public void addVehicle_Should_ThrowException_WhenNormalUserReachedLimit() {
         // Arrange
         UserImpl user = initializeTestUser();
-        for (int i = 0; i < VIP_MAX_VEHICLES_TO_ADD; i++) {
+        for (int i = 0; i < NORMAL_ROLE_VEHICLE_LIMIT; i++) {
             user.addVehicle(initializeTestCar());
         }
 
@@ -200,6 +219,108 @@ public class UserImplTests {
         assertEquals(6, user.getVehicles().size());
     }
 
+    @Test
+    public void printVehicles_Should_ListVehiclesWithComments() {
+        // Arrange
+        UserImpl user = initializeTestUser();
+        CarImpl car = initializeTestCar();
+        user.addVehicle(car);
+        user.addComment(new CommentImpl(VALID_CONTENT, VALID_AUTHOR), car);
+        String expected = String.join(System.lineSeparator(),
+                "--USER " + VALID_USERNAME + "--",
+                "1. Car:",
+                "Make: " + car.getMake(),
+                "Model: " + car.getModel(),
+                "Wheels: 4",
+                "Price: $1",
+                "Seats: " + car.getSeats(),
+                "--COMMENTS--",
+                "----------",
+                VALID_CONTENT,
+                "User: " + VALID_AUTHOR,
+                "----------",
+                "--COMMENTS--");
+
+        // Act, Assert
+        assertEquals(expected, user.printVehicles());
+    }
+
+    @Test
+    public void renderVehicles_Should_WriteSameTextAsPrintVehicles() throws IOException {
+        // Arrange
+        UserImpl user = initializeTestVipUser();
+        for (int i = 0; i < NORMAL_ROLE_VEHICLE_LIMIT + 1; i++) {
+            CarImpl car = initializeTestCar();
+            user.addVehicle(car);
+            user.addComment(new CommentImpl(VALID_CONTENT, VALID_AUTHOR), car);
+        }
+        StringWriter output = new StringWriter();
+
+        // Act
+        user.renderVehicles(output);
+
+        // Assert
+        assertEquals(user.printVehicles(), output.toString());
+    }
+
+    @Test
+    public void printVehicles_Should_ShowChanges_When_OtherUserCommentsRenderedVehicle() {
+        // Arrange
+        UserImpl user = initializeTestUser();
+        UserImpl otherUser = new UserImpl(VALID_AUTHOR, VALID_FIRST_NAME, VALID_LAST_NAME, VALID_PASSWORD, UserRole.NORMAL);
+        CarImpl car = initializeTestCar();
+        user.addVehicle(car);
+        String withoutComments = user.printVehicles();
+        CommentImpl comment = new CommentImpl(VALID_CONTENT, VALID_AUTHOR);
+
+        // Act
+        otherUser.addComment(comment, car);
+        String withComment = user.printVehicles();
+        otherUser.removeComment(comment, car);
+
+        // Assert
+        assertAll(
+                () -> assertEquals(withoutComments.replace("--NO COMMENTS--",
+                        String.join(System.lineSeparator(), "--COMMENTS--", comment.toString(), "--COMMENTS--")), withComment),
+                () -> assertEquals(withoutComments, user.printVehicles()));
+    }
+
+    @Test
+    public void printVehicles_Should_ShowChanges_When_VehicleIsRemoved() {
+        // Arrange
+        UserImpl user = initializeTestUser();
+        CarImpl car = initializeTestCar();
+        user.addVehicle(car);
+        user.printVehicles();
+
+        // Act
+        user.removeVehicle(car);
+
+        // Assert
+        assertEquals("--USER " + VALID_USERNAME + "--" + System.lineSeparator() + "--NO VEHICLES--", user.printVehicles());
+    }
+
+    @Test
+    public void printVehicles_Should_PrintNoVehiclesHeader_When_UserHasNoVehicles() {
+        // Arrange
+        UserImpl user = initializeTestUser();
+
+        // Act, Assert
+        assertEquals("--USER " + VALID_USERNAME + "--" + System.lineSeparator() + "--NO VEHICLES--", user.printVehicles());
+    }
+
+    @Test
+    public void hashCode_Should_BeEqual_When_UsersAreEqual() {
+        // Arrange
+        UserImpl user = initializeTestUser();
+        UserImpl sameUser = initializeTestUser();
+
+        // Act, Assert
+        assertAll(
+                () -> assertEquals(user, sameUser),
+                () -> assertEquals(user.hashCode(), sameUser.hashCode()));
+    }
+
     public static UserImpl initializeTestUser() {
         return initializeTestUser(UserRole.NORMAL);
     }
@@ -0,0 +1,80 @@
+package com.company.oop.dealership.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FormattingHelpersTests {
+
+    // Vehicle prices are validated to be between 0 and 1 000 000 dollars.
+    private static final long MAX_PRICE_CENTS = 100_000_000;
+
+    @Test
+    public void formatPrice_Should_MatchDoubleFormatting_When_PriceIsBelowHundredThousand() {
+        // Arrange, Act, Assert
+        for (long cents = 0; cents <= MAX_PRICE_CENTS / 10; cents++) {
+            assertFormattedAsDouble(cents);
+        }
+    }
+
+    @Test
+    public void formatPrice_Should_MatchDoubleFormatting_When_PriceIsAroundPowerOfTen() {
+        // Arrange, Act, Assert
+        for (long power = 1; power <= MAX_PRICE_CENTS; power *= 10) {
+            for (long cents = Math.max(0, power - 1000); cents <= Math.min(MAX_PRICE_CENTS, power + 1000); cents++) {
+                assertFormattedAsDouble(cents);
+            }
+        }
+    }
+
+    @Test
+    public void formatPrice_Should_MatchDoubleFormatting_When_PriceIsRandom() {
+        // Arrange
+        Random random = new Random(42);
+
+        // Act, Assert
+        for (int i = 0; i < 1_000_000; i++) {
+            assertFormattedAsDouble((long) (random.nextDouble() * (MAX_PRICE_CENTS + 1)));
+        }
+    }
+
+    @Test
+    public void formatPrice_Should_DropTrailingZeros() {
+        // Arrange, Act, Assert
+        assertEquals("0", FormattingHelpers.formatPrice(0));
+        assertEquals("0.01", FormattingHelpers.formatPrice(1));
+        assertEquals("0.1", FormattingHelpers.formatPrice(10));
+        assertEquals("1", FormattingHelpers.formatPrice(100));
+        assertEquals("1000000", FormattingHelpers.formatPrice(MAX_PRICE_CENTS));
+        assertEquals("999999.99", FormattingHelpers.formatPrice(MAX_PRICE_CENTS - 1));
+    }
+
+    @Test
+    public void formatPrice_Should_KeepSign_When_PriceIsNegative() {
+        // Arrange, Act, Assert
+        assertEquals("-0.05", FormattingHelpers.formatPrice(-5));
+        assertEquals("-12.5", FormattingHelpers.formatPrice(-1250));
+    }
+
+    @Test
+    public void appendPrice_Should_AppendToExistingText() throws Exception {
+        // Arrange
+        StringBuilder builder = new StringBuilder("Price: ");
+
+        // Act
+        FormattingHelpers.appendPrice(builder, 123_450);
+
+        // Assert
+        assertEquals("Price: 1234.5", builder.toString());
+    }
+
+    private static void assertFormattedAsDouble(long cents) {
+        String expected = FormattingHelpers.removeTrailingZerosFromDouble(cents / 100.0);
+        String actual = FormattingHelpers.formatPrice(cents);
+        if (!expected.equals(actual)) {
+            fail("Price of " + cents + " cents: expected " + expected + " but was " + actual);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.company.oop.dealership.utils;
+
+import com.company.oop.dealership.exceptions.InvalidUserInputException;
+import com.company.oop.dealership.models.enums.VehicleType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParsingHelpersTests {
+
+    private static final String ERROR_MESSAGE = "Invalid input. Expected a number.";
+
+    @Test
+    public void tryParseInt_Should_ReturnNumber_When_InputIsValid() {
+        // Arrange, Act, Assert
+        assertAll(
+                () -> assertEquals(42, ParsingHelpers.tryParseInt("42", ERROR_MESSAGE)),
+                () -> assertEquals(-7, ParsingHelpers.tryParseInt("-7", ERROR_MESSAGE)),
+                () -> assertEquals(7, ParsingHelpers.tryParseInt("+7", ERROR_MESSAGE)));
+    }
+
+    @Test
+    public void tryParseInt_Should_ThrowWithMessage_When_InputIsInvalid() {
+        // Arrange, Act, Assert
+        for (String input : new String[]{"", "-", "abc", "4.2", "12a", "99999999999"}) {
+            InvalidUserInputException exception = assertThrows(InvalidUserInputException.class,
+                    () -> ParsingHelpers.tryParseInt(input, ERROR_MESSAGE));
+            assertEquals(ERROR_MESSAGE, exception.getMessage());
+        }
+    }
+
+    @Test
+    public void tryParseDouble_Should_ReturnNumber_When_InputIsValid() {
+        // Arrange, Act, Assert
+        assertAll(
+                () -> assertEquals(5000.5, ParsingHelpers.tryParseDouble("5000.5", ERROR_MESSAGE)),
+                () -> assertEquals(1e3, ParsingHelpers.tryParseDouble("1e3", ERROR_MESSAGE)));
+    }
+
+    @Test
+    public void tryParseDouble_Should_ThrowWithMessage_When_InputIsInvalid() {
+        // Arrange, Act, Assert
+        for (String input : new String[]{"", "abc", ".", "12abc", "NaN", "Infinity", "-Infinity", "1e999"}) {
+            InvalidUserInputException exception = assertThrows(InvalidUserInputException.class,
+                    () -> ParsingHelpers.tryParseDouble(input, ERROR_MESSAGE));
+            assertEquals(ERROR_MESSAGE, exception.getMessage());
+        }
+    }
+
+    @Test
+    public void tryParseEnum_Should_IgnoreCase() {
+        // Arrange, Act, Assert
+        assertEquals(VehicleType.MOTORCYCLE, ParsingHelpers.tryParseEnum("Motorcycle", VehicleType.class));
+    }
+
+    @Test
+    public void tryParseEnum_Should_ThrowWithMessage_When_ConstantDoesNotExist() {
+        // Arrange, Act
+        InvalidUserInputException exception = assertThrows(InvalidUserInputException.class,
+                () -> ParsingHelpers.tryParseEnum("Plane", VehicleType.class));
+
+        // Assert
+        assertEquals("There is no Plane in VehicleTypes.", exception.getMessage());
+    }
+
+    @Test
+    public void invalidUserInputException_Should_NotCaptureStackTrace() {
+        // Arrange, Act
+        InvalidUserInputException exception = new InvalidUserInputException(ERROR_MESSAGE);
+
+        // Assert
+        assertEquals(0, exception.getStackTrace().length);
+    }
+}
@@ -0,0 +1,123 @@
+package com.company.oop.dealership.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RenderCacheTests {
+
+    private static final String TEXT = "Make: Opel";
+    // The text with the overhead of its slot.
+    private static final long TEXT_BYTES = 64 + 2 * TEXT.length();
+
+    private RenderCache renderCache;
+
+    @BeforeEach
+    public void before() {
+        renderCache = new RenderCache(2 * TEXT_BYTES);
+    }
+
+    @Test
+    public void get_Should_ReturnText_When_VersionIsTheCachedOne() {
+        // Arrange
+        RenderCache.Slot slot = new RenderCache.Slot();
+        renderCache.put(slot, 1, TEXT);
+
+        // Act, Assert
+        assertEquals(TEXT, renderCache.get(slot, 1));
+        assertEquals(1, renderCache.getHitCount());
+    }
+
+    @Test
+    public void get_Should_ReturnNull_When_VersionChanged() {
+        // Arrange
+        RenderCache.Slot slot = new RenderCache.Slot();
+        renderCache.put(slot, 1, TEXT);
+
+        // Act, Assert
+        assertNull(renderCache.get(slot, 2));
+        assertEquals(1, renderCache.getMissCount());
+    }
+
+    @Test
+    public void put_Should_EvictLeastRecentlyUsed_When_OverBudget() {
+        // Arrange
+        RenderCache.Slot first = new RenderCache.Slot();
+        RenderCache.Slot second = new RenderCache.Slot();
+        RenderCache.Slot third = new RenderCache.Slot();
+        renderCache.put(first, 1, TEXT);
+        renderCache.put(second, 1, TEXT);
+        renderCache.get(first, 1);
+
+        // Act
+        renderCache.put(third, 1, TEXT);
+
+        // Assert
+        assertAll(
+                () -> assertEquals(TEXT, renderCache.get(first, 1)),
+                () -> assertNull(renderCache.get(second, 1)),
+                () -> assertEquals(TEXT, renderCache.get(third, 1)),
+                () -> assertEquals(2, renderCache.getEntryCount()),
+                () -> assertEquals(2 * TEXT_BYTES, renderCache.getUsedBytes()));
+    }
+
+    @Test
+    public void put_Should_ReplaceText_When_SlotIsCached() {
+        // Arrange
+        RenderCache.Slot slot = new RenderCache.Slot();
+        renderCache.put(slot, 1, TEXT);
+
+        // Act
+        renderCache.put(slot, 2, TEXT);
+
+        // Assert
+        assertEquals(1, renderCache.getEntryCount());
+        assertEquals(TEXT_BYTES, renderCache.getUsedBytes());
+        assertEquals(TEXT, renderCache.get(slot, 2));
+    }
+
+    @Test
+    public void setBudgetBytes_Should_EmptyCache_When_BudgetIsZero() {
+        // Arrange
+        RenderCache.Slot slot = new RenderCache.Slot();
+        renderCache.put(slot, 1, TEXT);
+
+        // Act
+        renderCache.setBudgetBytes(0);
+        renderCache.put(new RenderCache.Slot(), 1, TEXT);
+
+        // Assert
+        assertEquals(0, renderCache.getEntryCount());
+        assertEquals(0, renderCache.getUsedBytes());
+        assertNull(renderCache.get(slot, 1));
+    }
+
+    @Test
+    public void setBudgetBytes_Should_TurnCachingOff_When_BudgetIsNegative() {
+        // Arrange
+        RenderCache.Slot slot = new RenderCache.Slot();
+        renderCache.put(slot, 1, TEXT);
+
+        // Act
+        renderCache.setBudgetBytes(-1);
+        renderCache.put(new RenderCache.Slot(), 1, TEXT);
+
+        // Assert
+        assertEquals(0, renderCache.getBudgetBytes());
+        assertEquals(0, renderCache.getEntryCount());
+        assertNull(renderCache.get(slot, 1));
+    }
+
+    @Test
+    public void constructor_Should_TurnCachingOff_When_BudgetIsNegative() {
+        // Arrange
+        RenderCache negativeBudgetCache = new RenderCache(-1);
+
+        // Act
+        negativeBudgetCache.put(new RenderCache.Slot(), 1, TEXT);
+
+        // Assert
+        assertEquals(0, negativeBudgetCache.getEntryCount());
+    }
+}